@@ -0,0 +1,87 @@
+package com.yl.musinsa2.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yl.musinsa2.cache.CategoryCacheCodec;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import com.yl.musinsa2.config.RedisConfig;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.dto.CategoryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+
+/**
+ * Redis 트리 캐시 값 형식별 크기/변환 비용 (CategoryCacheService 와 같은 설정의 ObjectMapper 사용)
+ * - encodeTree / decodeTree: CategoryCacheCodec 왕복 (format = JSON | BINARY)
+ * - legacyReadTree: 이전 경로 - GenericJackson2JsonRedisSerializer(Map) -> convertValue(응답) -> convertValue(DTO) -> 스냅샷
+ * - 값 크기는 setUp 에서 출력 (형식별 Redis 메모리/네트워크 전송량 비교)
+ */
+@State(Scope.Benchmark)
+public class CategoryCacheCodecBenchmark {
+
+    private static final TypeReference<List<CategoryResponse>> RESPONSE_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<CategoryDto>> DTO_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"4", "32"})
+    private int fanOut;
+
+    @Param({"JSON", "BINARY"})
+    private CategoryCacheProperties.Codec.Format format;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper legacyDtoMapper;
+    private GenericJackson2JsonRedisSerializer serializer;
+    private CategoryCacheCodec codec;
+    private CategoryTreeSnapshot snapshot;
+    private byte[] encoded;
+    private byte[] legacyEncoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new RedisConfig().objectMapper();
+        serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        legacyDtoMapper = objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        CategoryCacheProperties properties = new CategoryCacheProperties();
+        properties.getCodec().setFormat(format);
+        codec = new CategoryCacheCodec(objectMapper, properties);
+
+        snapshot = CategoryTreeSnapshot.build(1L, SyntheticCategoryTree.generate(size, fanOut));
+        encoded = codec.encodeTree(snapshot);
+        legacyEncoded = serializer.serialize(snapshot.toResponseTree());
+
+        System.out.printf("%n[tree value] size=%d, fanOut=%d, format=%s: %d bytes (legacy JSON %d bytes, %.1f%%)%n",
+                size, fanOut, format, encoded.length, legacyEncoded.length, 100.0 * encoded.length / legacyEncoded.length);
+    }
+
+    @Benchmark
+    public byte[] encodeTree() {
+        return codec.encodeTree(snapshot);
+    }
+
+    @Benchmark
+    public CategoryTreeSnapshot decodeTree() {
+        return codec.decodeTree(1L, encoded);
+    }
+
+    @Benchmark
+    public CategoryTreeSnapshot legacyReadTree() {
+        List<CategoryResponse> tree = objectMapper.convertValue(serializer.deserialize(legacyEncoded), RESPONSE_LIST);
+        List<CategoryDto> dtos = legacyDtoMapper.convertValue(tree, DTO_LIST);
+        return CategoryTreeSnapshot.fromTree(1L, dtos);
+    }
+}
@@ -0,0 +1,101 @@
+package com.yl.musinsa2.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yl.musinsa2.cache.CategorySearchResultCache;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import com.yl.musinsa2.config.CategorySearchProperties;
+import com.yl.musinsa2.dto.CategoryAutocompleteResponse;
+import com.yl.musinsa2.dto.CategoryResponse;
+import com.yl.musinsa2.service.CategoryCacheService;
+import com.yl.musinsa2.service.CategoryService;
+import com.yl.musinsa2.service.CategoryTreeRenderer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 트리 검색 비용 - CategoryService.searchCategoriesTree (fuzzy 포함) / searchCategorySubTree / autocomplete
+ * 캐시 계층은 고정 스냅샷을 반환하는 CategoryCacheService 하위 클래스로 대체 (검색 경로는 getTreeSnapshot 만 호출)
+ */
+@State(Scope.Benchmark)
+public class CategorySearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"4", "32"})
+    private int fanOut;
+
+    // 자주 일치하는 검색어 / 거의 일치하지 않는 검색어
+    @Param({"상의", "스포츠 9"})
+    private String query;
+
+    // 검색 결과 캐시 사용 여부 (true 이면 첫 호출 이후 캐시 적중 비용)
+    @Param({"false", "true"})
+    private boolean resultCache;
+
+    private CategoryService categoryService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, SyntheticCategoryTree.generate(size, fanOut));
+
+        CategorySearchProperties searchProperties = new CategorySearchProperties();
+        searchProperties.getResultCache().setEnabled(resultCache);
+
+        // 저장소/워밍업은 검색 경로에서 사용하지 않음, 이벤트는 발행되지 않음
+        categoryService = new CategoryService(
+                null,
+                new FixedTreeCache(snapshot),
+                null,
+                searchProperties,
+                new CategorySearchResultCache(searchProperties, new SimpleMeterRegistry()),
+                new CategoryTreeRenderer(new ObjectMapper().findAndRegisterModules(), new CategoryCacheProperties()),
+                event -> { });
+    }
+
+    @Benchmark
+    public List<CategoryResponse> searchTree() {
+        return categoryService.searchCategoriesTree(query);
+    }
+
+    @Benchmark
+    public List<CategoryResponse> searchTreeFuzzy() {
+        return categoryService.searchCategoriesTree(query, true);
+    }
+
+    @Benchmark
+    public CategoryResponse searchSubTree() {
+        return categoryService.searchCategorySubTree(1L, query);
+    }
+
+    @Benchmark
+    public List<CategoryAutocompleteResponse> autocomplete() {
+        return categoryService.autocomplete(query, 10);
+    }
+
+    /**
+     * 고정 스냅샷만 반환하는 캐시 - Redis/DB 의존성은 사용하지 않으므로 비워 둠
+     */
+    private static final class FixedTreeCache extends CategoryCacheService {
+
+        private final CategoryTreeSnapshot snapshot;
+
+        FixedTreeCache(CategoryTreeSnapshot snapshot) {
+            super(null, null, null, null, null, null, null, null, null, null);
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public CategoryTreeSnapshot getTreeSnapshot() {
+            return snapshot;
+        }
+    }
+}
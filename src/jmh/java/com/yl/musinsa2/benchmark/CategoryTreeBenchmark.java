@@ -0,0 +1,68 @@
+package com.yl.musinsa2.benchmark;
+
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.dto.CategoryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 트리 읽기 모델 구성/변환 비용
+ * - buildSnapshot: DB 평면 목록 -> 스냅샷 (재구성 경로)
+ * - fromNestedTree: Redis 중첩 트리 -> 스냅샷 (L2 히트 경로)
+ * - toResponseTree / toDtoTree: 전체 트리 응답, Redis 저장 형식 변환
+ * - lookupSubtree: 임의 노드의 서브트리 응답 (단건 조회 경로)
+ */
+@State(Scope.Benchmark)
+public class CategoryTreeBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"4", "32"})
+    private int fanOut;
+
+    private List<CategoryDto> flat;
+    private List<CategoryDto> nested;
+    private CategoryTreeSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        flat = SyntheticCategoryTree.generate(size, fanOut);
+        snapshot = CategoryTreeSnapshot.build(1L, flat);
+        nested = snapshot.toDtoTree();
+    }
+
+    @Benchmark
+    public CategoryTreeSnapshot buildSnapshot() {
+        return CategoryTreeSnapshot.build(1L, flat);
+    }
+
+    @Benchmark
+    public CategoryTreeSnapshot fromNestedTree() {
+        return CategoryTreeSnapshot.fromTree(1L, nested);
+    }
+
+    @Benchmark
+    public List<CategoryResponse> toResponseTree() {
+        return snapshot.toResponseTree();
+    }
+
+    @Benchmark
+    public List<CategoryDto> toDtoTree() {
+        return snapshot.toDtoTree();
+    }
+
+    @Benchmark
+    public CategoryResponse lookupSubtree() {
+        long id = ThreadLocalRandom.current().nextLong(1, size + 1);
+        return snapshot.toResponseTree(snapshot.indexOf(id));
+    }
+}
@@ -0,0 +1,51 @@
+package com.yl.musinsa2.benchmark;
+
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.entity.GenderFilter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 합성 카테고리 트리
+ * - 루트 fanOut 개에서 시작해 너비 우선으로 노드마다 fanOut 개의 자식을 채움
+ * - fanOut 이 작을수록 깊은 트리 (1만 개 기준 fanOut 4 -> 깊이 약 6, fanOut 32 -> 깊이 약 2)
+ */
+public final class SyntheticCategoryTree {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final String[] WORDS = {"상의", "아우터", "바지", "원피스", "스커트", "신발", "가방", "모자", "액세서리", "스포츠"};
+
+    private SyntheticCategoryTree() {
+    }
+
+    public static List<CategoryDto> generate(int size, int fanOut) {
+        List<CategoryDto> categories = new ArrayList<>(size);
+        GenderFilter[] genders = GenderFilter.values();
+
+        for (int i = 0; i < size; i++) {
+            long id = i + 1;
+            Long parentId = i < fanOut ? null : (long) ((i - fanOut) / fanOut + 1);
+            int displayOrder = i < fanOut ? i : (i - fanOut) % fanOut;
+            String word = WORDS[i % WORDS.length];
+
+            categories.add(CategoryDto.builder()
+                    .id(id)
+                    .name(word + " " + id)
+                    .description(word + " 카테고리 설명 " + id)
+                    .code("C" + id)
+                    .storeCode("store-" + (i % 50))
+                    .storeTitle(word + " 스토어")
+                    .groupTitle(WORDS[(i / fanOut) % WORDS.length] + " 그룹")
+                    .displayOrder(displayOrder)
+                    .sortOrder(displayOrder)
+                    .genderFilter(genders[i % genders.length])
+                    .parentId(parentId)
+                    .createdAt(CREATED_AT)
+                    .updatedAt(CREATED_AT)
+                    .build());
+        }
+        return categories;
+    }
+}
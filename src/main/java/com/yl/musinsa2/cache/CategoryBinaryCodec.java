@@ -0,0 +1,510 @@
+package com.yl.musinsa2.cache;
+
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.entity.GenderFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis 카테고리 값 바이너리 형식 (개별 카테고리, 전체 트리)
+ * - 헤더 4바이트: MAGIC, 형식 버전, 값 종류(NODE/TREE), 플래그(DEFLATE)
+ * - 본문: 레코드 개수 + 전위 순서 레코드 - 레코드는 필드 존재 비트마스크, id, 존재하는 필드만 고정 순서로 기록
+ * - 정수는 varint(부호 있는 값은 zigzag), 문자열은 값 안에서 처음 나올 때만 UTF-8 로 기록하고 이후에는 번호로 참조
+ *   (스토어/그룹명, 성별 코드 등 반복 값이 많고, 복원한 스냅샷도 같은 문자열 인스턴스를 공유)
+ * - 트리 레코드의 parentName 은 부모 레코드 이름과 같으면 생략 (스냅샷 구성 시 보정)
+ * - 본문이 COMPRESS_THRESHOLD 이상이고 줄어들 때만 DEFLATE(BEST_SPEED) 압축
+ * - 읽는 쪽은 알고 있는 형식 버전만 복원하고, 모르는 버전은 예외 (호출 측에서 캐시 미스로 처리)
+ * - 값에 기록된 길이/개수는 신뢰하지 않음 - 할당 전에 상한(MAX_RAW_LENGTH, DEFLATE 최대 압축률, 남은 본문)을 확인
+ *   레이아웃을 바꿀 때는 FORMAT_VERSION 을 올리고 이전 버전 복원을 유지
+ */
+public final class CategoryBinaryCodec {
+
+    public static final byte MAGIC = (byte) 0xC7;
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte KIND_NODE = 1;
+    private static final byte KIND_TREE = 2;
+    private static final byte FLAG_DEFLATE = 1;
+    private static final int HEADER_SIZE = 4;
+
+    private static final int COMPRESS_THRESHOLD = 512;
+
+    // 압축 해제 본문 최대 크기 - 전체 트리(수만 개)도 수 MB 수준
+    private static final int MAX_RAW_LENGTH = 64 * 1024 * 1024;
+    // DEFLATE 최대 압축률 (이론상 약 1032:1) - 압축 본문 크기로 가능한 해제 크기 상한
+    private static final int MAX_DEFLATE_RATIO = 1032;
+    // 레코드 최소 크기 (필드 비트마스크 1바이트 + id 1바이트)
+    private static final int MIN_RECORD_SIZE = 2;
+
+    // 필드 존재 비트 (순서 = 기록 순서, 형식 버전 1)
+    private static final int PARENT_ID = 1;
+    private static final int NAME = 1 << 1;
+    private static final int DESCRIPTION = 1 << 2;
+    private static final int CODE = 1 << 3;
+    private static final int STORE_CODE = 1 << 4;
+    private static final int STORE_TITLE = 1 << 5;
+    private static final int GROUP_TITLE = 1 << 6;
+    private static final int DISPLAY_ORDER = 1 << 7;
+    private static final int GENDER_FILTER = 1 << 8;
+    private static final int PARENT_NAME = 1 << 9;
+    private static final int CREATED_AT = 1 << 10;
+    private static final int UPDATED_AT = 1 << 11;
+    private static final int SORT_ORDER = 1 << 12;
+
+    private CategoryBinaryCodec() {
+    }
+
+    /**
+     * 바이너리 형식 값인지 여부 (이전 JSON 형식은 '{' 또는 '[' 로 시작)
+     */
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_SIZE && bytes[0] == MAGIC;
+    }
+
+    /**
+     * 개별 카테고리 - 하위 카테고리가 있으면 전위 순서로 함께 기록
+     */
+    public static byte[] encodeNode(CategoryDto category) {
+        List<CategoryDto> records = new ArrayList<>();
+        flatten(category, records);
+
+        Writer writer = new Writer(64 * records.size());
+        writer.writeVarInt(records.size());
+        for (CategoryDto record : records) {
+            writer.writeRecord(record, false);
+        }
+        return finish(KIND_NODE, writer);
+    }
+
+    /**
+     * 전체 트리 - 스냅샷 전위 순서 그대로 기록 (중첩 트리/응답 객체 변환 없음)
+     */
+    public static byte[] encodeTree(CategoryTreeSnapshot snapshot) {
+        Writer writer = new Writer(64 * Math.max(snapshot.size(), 1));
+        writer.writeVarInt(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            CategoryDto node = snapshot.node(i);
+            int parent = snapshot.parentIndex(i);
+            boolean derivedParentName = parent != CategoryTreeSnapshot.NOT_FOUND
+                    && node.getParentName() != null
+                    && node.getParentName().equals(snapshot.node(parent).getName());
+            writer.writeRecord(node, derivedParentName);
+        }
+        return finish(KIND_TREE, writer);
+    }
+
+    /**
+     * 개별 카테고리 복원 - 하위 카테고리는 children 으로 중첩
+     */
+    public static CategoryDto decodeNode(byte[] bytes) {
+        List<CategoryDto> records = decode(bytes, KIND_NODE);
+        if (records.isEmpty()) {
+            throw new IllegalStateException("카테고리 캐시 값 형식 오류: 빈 개별 카테고리");
+        }
+
+        CategoryDto root = records.get(0);
+        if (records.size() > 1) {
+            Map<Long, CategoryDto> byId = new HashMap<>();
+            for (CategoryDto record : records) {
+                byId.put(record.getId(), record);
+            }
+            for (int i = 1; i < records.size(); i++) {
+                CategoryDto parent = byId.get(records.get(i).getParentId());
+                if (parent != null) {
+                    if (parent.getChildren() == null) {
+                        parent.setChildren(new ArrayList<>());
+                    }
+                    parent.getChildren().add(records.get(i));
+                }
+            }
+        }
+        return root;
+    }
+
+    /**
+     * 전체 트리 복원 - 평면 목록(parentId 포함, 전위 순서)
+     */
+    public static List<CategoryDto> decodeTree(byte[] bytes) {
+        return decode(bytes, KIND_TREE);
+    }
+
+    private static void flatten(CategoryDto category, List<CategoryDto> records) {
+        records.add(category);
+        if (category.getChildren() != null) {
+            for (CategoryDto child : category.getChildren()) {
+                flatten(child, records);
+            }
+        }
+    }
+
+    private static byte[] finish(byte kind, Writer writer) {
+        byte[] body = writer.toByteArray();
+        byte flags = 0;
+
+        if (body.length >= COMPRESS_THRESHOLD) {
+            byte[] compressed = deflate(body);
+            if (compressed != null) {
+                body = compressed;
+                flags = FLAG_DEFLATE;
+            }
+        }
+
+        byte[] bytes = new byte[HEADER_SIZE + body.length];
+        bytes[0] = MAGIC;
+        bytes[1] = FORMAT_VERSION;
+        bytes[2] = kind;
+        bytes[3] = flags;
+        System.arraycopy(body, 0, bytes, HEADER_SIZE, body.length);
+        return bytes;
+    }
+
+    private static List<CategoryDto> decode(byte[] bytes, byte kind) {
+        if (!isBinary(bytes)) {
+            throw new IllegalStateException("카테고리 캐시 값 형식 오류: 바이너리 형식이 아님");
+        }
+        if (bytes[1] != FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 카테고리 캐시 값 형식 버전: " + bytes[1]);
+        }
+        if (bytes[2] != kind) {
+            throw new IllegalStateException("카테고리 캐시 값 종류 불일치: expected=" + kind + ", actual=" + bytes[2]);
+        }
+
+        Reader reader = (bytes[3] & FLAG_DEFLATE) != 0
+                ? new Reader(inflate(bytes), 0)
+                : new Reader(bytes, HEADER_SIZE);
+
+        int count = reader.readVarInt();
+        if (count < 0 || count > reader.remaining() / MIN_RECORD_SIZE) {
+            throw new IllegalStateException("카테고리 캐시 값 형식 오류: 레코드 개수 범위 초과 (" + count + ")");
+        }
+        List<CategoryDto> records = new ArrayList<>(count);
+        Map<Long, String> namesById = kind == KIND_TREE ? new HashMap<>(count * 2) : null;
+        for (int i = 0; i < count; i++) {
+            records.add(reader.readRecord(namesById));
+        }
+        return records;
+    }
+
+    private static byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+
+            Writer writer = new Writer(body.length / 2 + 16);
+            writer.writeVarInt(body.length);
+            byte[] buffer = new byte[Math.min(body.length, 64 * 1024)];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                writer.writeBytes(buffer, 0, length);
+                if (writer.size() >= body.length) {
+                    return null;
+                }
+            }
+            return writer.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        Reader header = new Reader(bytes, HEADER_SIZE);
+        int rawLength = header.readVarInt();
+        long compressedLength = bytes.length - header.position;
+        if (rawLength < 0 || rawLength > MAX_RAW_LENGTH || rawLength > compressedLength * MAX_DEFLATE_RATIO) {
+            throw new IllegalStateException("카테고리 캐시 값 형식 오류: 압축 본문 길이 범위 초과 (" + rawLength + ")");
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes, header.position, bytes.length - header.position);
+            byte[] raw = new byte[rawLength];
+            int length = 0;
+            while (length < rawLength) {
+                int inflated = inflater.inflate(raw, length, rawLength - length);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != rawLength) {
+                throw new IllegalStateException("카테고리 캐시 값 형식 오류: 압축 본문 길이 불일치");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("카테고리 캐시 값 형식 오류: 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+        private int size;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        private Writer(int capacity) {
+            this.buffer = new byte[Math.max(capacity, 16)];
+        }
+
+        private void writeRecord(CategoryDto category, boolean derivedParentName) {
+            int mask = 0;
+            mask |= category.getParentId() != null ? PARENT_ID : 0;
+            mask |= category.getName() != null ? NAME : 0;
+            mask |= category.getDescription() != null ? DESCRIPTION : 0;
+            mask |= category.getCode() != null ? CODE : 0;
+            mask |= category.getStoreCode() != null ? STORE_CODE : 0;
+            mask |= category.getStoreTitle() != null ? STORE_TITLE : 0;
+            mask |= category.getGroupTitle() != null ? GROUP_TITLE : 0;
+            mask |= category.getDisplayOrder() != null ? DISPLAY_ORDER : 0;
+            mask |= category.getGenderFilter() != null ? GENDER_FILTER : 0;
+            mask |= category.getParentName() != null && !derivedParentName ? PARENT_NAME : 0;
+            mask |= category.getCreatedAt() != null ? CREATED_AT : 0;
+            mask |= category.getUpdatedAt() != null ? UPDATED_AT : 0;
+            mask |= category.getSortOrder() != null ? SORT_ORDER : 0;
+
+            writeVarInt(mask);
+            writeVarLong(category.getId());
+            if ((mask & PARENT_ID) != 0) {
+                writeVarLong(category.getParentId());
+            }
+            if ((mask & NAME) != 0) {
+                writeString(category.getName());
+            }
+            if ((mask & DESCRIPTION) != 0) {
+                writeString(category.getDescription());
+            }
+            if ((mask & CODE) != 0) {
+                writeString(category.getCode());
+            }
+            if ((mask & STORE_CODE) != 0) {
+                writeString(category.getStoreCode());
+            }
+            if ((mask & STORE_TITLE) != 0) {
+                writeString(category.getStoreTitle());
+            }
+            if ((mask & GROUP_TITLE) != 0) {
+                writeString(category.getGroupTitle());
+            }
+            if ((mask & DISPLAY_ORDER) != 0) {
+                writeVarInt(zigzag(category.getDisplayOrder()));
+            }
+            if ((mask & GENDER_FILTER) != 0) {
+                // 열거형 순서가 아닌 저장 코드로 기록 (상수 추가/재배치에 영향 없음)
+                writeString(category.getGenderFilter().getCode());
+            }
+            if ((mask & PARENT_NAME) != 0) {
+                writeString(category.getParentName());
+            }
+            if ((mask & CREATED_AT) != 0) {
+                writeDateTime(category.getCreatedAt());
+            }
+            if ((mask & UPDATED_AT) != 0) {
+                writeDateTime(category.getUpdatedAt());
+            }
+            if ((mask & SORT_ORDER) != 0) {
+                writeVarInt(zigzag(category.getSortOrder()));
+            }
+        }
+
+        private void writeString(String value) {
+            Integer reference = strings.get(value);
+            if (reference != null) {
+                writeVarInt(reference + 1);
+                return;
+            }
+            strings.put(value, strings.size());
+
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(0);
+            writeVarInt(utf8.length);
+            writeBytes(utf8, 0, utf8.length);
+        }
+
+        private void writeDateTime(LocalDateTime value) {
+            writeVarLong(zigzag(value.toEpochSecond(ZoneOffset.UTC)));
+            writeVarInt(value.getNano());
+        }
+
+        private void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        private void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        private void writeBytes(byte[] bytes, int offset, int length) {
+            ensure(length);
+            System.arraycopy(bytes, offset, buffer, size, length);
+            size += length;
+        }
+
+        private void ensure(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+        private final List<String> strings = new ArrayList<>();
+
+        private Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        /**
+         * @param namesById 트리 복원 시 생략된 parentName 을 채우기 위한 id -> 이름 (개별 카테고리는 null)
+         */
+        private CategoryDto readRecord(Map<Long, String> namesById) {
+            int mask = readVarInt();
+            CategoryDto.CategoryDtoBuilder builder = CategoryDto.builder().id(readVarLong());
+
+            if ((mask & PARENT_ID) != 0) {
+                builder.parentId(readVarLong());
+            }
+            if ((mask & NAME) != 0) {
+                builder.name(readString());
+            }
+            if ((mask & DESCRIPTION) != 0) {
+                builder.description(readString());
+            }
+            if ((mask & CODE) != 0) {
+                builder.code(readString());
+            }
+            if ((mask & STORE_CODE) != 0) {
+                builder.storeCode(readString());
+            }
+            if ((mask & STORE_TITLE) != 0) {
+                builder.storeTitle(readString());
+            }
+            if ((mask & GROUP_TITLE) != 0) {
+                builder.groupTitle(readString());
+            }
+            if ((mask & DISPLAY_ORDER) != 0) {
+                builder.displayOrder(unzigzag(readVarInt()));
+            }
+            if ((mask & GENDER_FILTER) != 0) {
+                builder.genderFilter(GenderFilter.fromCode(readString()));
+            }
+            if ((mask & PARENT_NAME) != 0) {
+                builder.parentName(readString());
+            }
+            if ((mask & CREATED_AT) != 0) {
+                builder.createdAt(readDateTime());
+            }
+            if ((mask & UPDATED_AT) != 0) {
+                builder.updatedAt(readDateTime());
+            }
+            if ((mask & SORT_ORDER) != 0) {
+                builder.sortOrder(unzigzag(readVarInt()));
+            }
+
+            CategoryDto category = builder.build();
+            if (namesById != null) {
+                if (category.getParentName() == null && category.getParentId() != null) {
+                    category.setParentName(namesById.get(category.getParentId()));
+                }
+                namesById.put(category.getId(), category.getName());
+            }
+            return category;
+        }
+
+        private String readString() {
+            int reference = readVarInt();
+            if (reference > 0) {
+                if (reference > strings.size()) {
+                    throw new IllegalStateException("카테고리 캐시 값 형식 오류: 문자열 참조 범위 초과");
+                }
+                return strings.get(reference - 1);
+            }
+
+            int length = readVarInt();
+            require(length);
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            strings.add(value);
+            return value;
+        }
+
+        private LocalDateTime readDateTime() {
+            long epochSecond = unzigzag(readVarLong());
+            return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(), ZoneOffset.UTC);
+        }
+
+        private int readVarInt() {
+            long value = readVarLong();
+            if (value > 0xFFFFFFFFL) {
+                throw new IllegalStateException("카테고리 캐시 값 형식 오류: 정수 범위 초과");
+            }
+            return (int) value;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                require(1);
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("카테고리 캐시 값 형식 오류: varint 길이 초과");
+        }
+
+        private int remaining() {
+            return buffer.length - position;
+        }
+
+        private void require(int length) {
+            if (length < 0 || position + length > buffer.length) {
+                throw new IllegalStateException("카테고리 캐시 값 형식 오류: 본문 길이 부족");
+            }
+        }
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,92 @@
+package com.yl.musinsa2.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.dto.CategoryResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Redis 카테고리 값 변환 - 저장 형식(category.cache.codec.format)으로 기록하고 두 형식 모두 읽음
+ * - BINARY: CategoryBinaryCodec (버전 헤더 포함, 읽기 모델로 바로 복원)
+ * - JSON: 이전 형식 (CategoryResponse JSON) - 이전 버전 인스턴스와 함께 실행되는 동안 사용
+ * - 이전 형식은 CategoryResponse 변환 없이 CategoryDto 로 바로 읽음 (isRoot/leaf 등 응답 전용 필드는 무시)
+ */
+@Component
+public class CategoryCacheCodec {
+
+    private static final TypeReference<List<CategoryDto>> DTO_LIST = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader legacyNodeReader;
+    private final ObjectReader legacyTreeReader;
+    private final boolean binary;
+
+    public CategoryCacheCodec(ObjectMapper objectMapper, CategoryCacheProperties cacheProperties) {
+        this.objectMapper = objectMapper;
+        ObjectReader legacyReader = objectMapper.reader()
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.legacyNodeReader = legacyReader.forType(CategoryDto.class);
+        this.legacyTreeReader = legacyReader.forType(DTO_LIST);
+        this.binary = cacheProperties.getCodec().getFormat() == CategoryCacheProperties.Codec.Format.BINARY;
+    }
+
+    public byte[] encodeNode(CategoryDto category) {
+        if (binary) {
+            return CategoryBinaryCodec.encodeNode(category);
+        }
+        return writeJson(CategoryResponse.convertToResponseWithChildren(category));
+    }
+
+    public byte[] encodeTree(CategoryTreeSnapshot snapshot) {
+        if (binary) {
+            return CategoryBinaryCodec.encodeTree(snapshot);
+        }
+        return writeJson(snapshot.toResponseTree());
+    }
+
+    /**
+     * 개별 카테고리 복원 - 모르는 형식 버전이면 IllegalStateException (캐시 미스로 처리)
+     */
+    public CategoryDto decodeNode(byte[] bytes) {
+        if (CategoryBinaryCodec.isBinary(bytes)) {
+            return CategoryBinaryCodec.decodeNode(bytes);
+        }
+        return readJson(legacyNodeReader, bytes);
+    }
+
+    /**
+     * 전체 트리 복원 - 모르는 형식 버전이면 IllegalStateException (캐시 미스로 처리)
+     */
+    public CategoryTreeSnapshot decodeTree(long version, byte[] bytes) {
+        if (CategoryBinaryCodec.isBinary(bytes)) {
+            return CategoryTreeSnapshot.build(version, CategoryBinaryCodec.decodeTree(bytes));
+        }
+        List<CategoryDto> roots = readJson(legacyTreeReader, bytes);
+        return CategoryTreeSnapshot.fromTree(version, roots);
+    }
+
+    private byte[] writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("카테고리 캐시 값 JSON 변환 실패", e);
+        }
+    }
+
+    private static <T> T readJson(ObjectReader reader, byte[] bytes) {
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("카테고리 캐시 값 형식 오류: JSON 복원 실패", e);
+        }
+    }
+}
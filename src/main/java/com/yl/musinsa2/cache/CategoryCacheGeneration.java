@@ -0,0 +1,132 @@
+package com.yl.musinsa2.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 카테고리 캐시 세대(generation) 관리
+ * - 모든 키는 세대 번호로 구분: category:{gen}:{id}, category:{gen}:tree, category:{gen}:tree-hash (트리 내용 해시)
+ * - category:current-gen 포인터가 현재 세대를 가리키며, 재구성은 새 세대를 모두 저장한 뒤 포인터만 교체
+ * - 이전 세대 키는 삭제하지 않고 TTL로 만료 (교체 중에도 캐시가 비는 구간 없음)
+ */
+@Slf4j
+@Component
+public class CategoryCacheGeneration {
+
+    public static final String KEY_PREFIX = "category:";
+
+    private static final String POINTER_KEY = KEY_PREFIX + "current-gen";
+    private static final String SEQUENCE_KEY = KEY_PREFIX + "gen-seq";
+
+    // 현재 세대보다 큰 경우에만 교체 - 늦게 끝난 이전 재구성이 최신 세대를 되돌리지 않도록 함
+    private static final RedisScript<Long> ACTIVATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('get', KEYS[1]) or '0') "
+                    + "if tonumber(ARGV[1]) > current then redis.call('set', KEYS[1], ARGV[1]) return 1 end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    // 마지막으로 확인한 현재 세대 (0: 아직 확인 전 또는 세대 없음)
+    private volatile long current;
+
+    public CategoryCacheGeneration(StringRedisTemplate stringRedisTemplate, RedisCircuitBreaker circuitBreaker,
+                                   MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        meterRegistry.gauge("category.cache.generation", this, CategoryCacheGeneration::cached);
+    }
+
+    public static String nodeKey(long generation, long id) {
+        return KEY_PREFIX + generation + ":" + id;
+    }
+
+    public static String treeKey(long generation) {
+        return KEY_PREFIX + generation + ":tree";
+    }
+
+    /**
+     * 트리 키에 저장된 트리의 내용 해시 (CategoryTreeSnapshot.contentHash) - 트리 부분 반영의 비교 기준
+     */
+    public static String treeHashKey(long generation) {
+        return KEY_PREFIX + generation + ":tree-hash";
+    }
+
+    /**
+     * 세대 키(category:{gen}:...)에서 세대 번호 추출, 세대 키가 아니면 null
+     */
+    public static Long generationOf(String key) {
+        if (!key.startsWith(KEY_PREFIX)) {
+            return null;
+        }
+        String[] parts = key.split(":");
+        if (parts.length != 3 || parts[1].isEmpty() || !parts[1].chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return Long.parseLong(parts[1]);
+    }
+
+    /**
+     * 현재 세대 - 조회 빈도가 높은 경로용, 확인된 적이 없을 때만 Redis 조회
+     */
+    public long current() {
+        long cached = current;
+        return cached != 0 ? cached : refresh();
+    }
+
+    /**
+     * Redis 포인터를 다시 읽어 현재 세대 갱신 - 쓰기/무효화 등 최신 세대가 필요한 경로용
+     * 조회 실패 또는 Redis 회로가 열려 있으면 마지막으로 확인한 세대 반환
+     */
+    public long refresh() {
+        if (!circuitBreaker.isClosed()) {
+            return current;
+        }
+        try {
+            String value = circuitBreaker.execute(() -> stringRedisTemplate.opsForValue().get(POINTER_KEY));
+            current = value != null ? Long.parseLong(value) : 0;
+        } catch (Exception e) {
+            log.warn("현재 캐시 세대 조회 실패: error={}", e.getMessage());
+        }
+        return current;
+    }
+
+    /**
+     * 새 세대 번호 발급 (아직 활성화되지 않음)
+     */
+    public long next() {
+        Long generation = circuitBreaker.execute(() -> stringRedisTemplate.opsForValue().increment(SEQUENCE_KEY));
+        if (generation == null) {
+            throw new IllegalStateException("캐시 세대 발급 실패");
+        }
+        return generation;
+    }
+
+    /**
+     * 포인터를 새 세대로 교체 - 이미 더 최신 세대가 활성화되어 있으면 교체하지 않음
+     *
+     * @return 교체 여부
+     */
+    public boolean activate(long generation) {
+        Long result = circuitBreaker.execute(() ->
+                stringRedisTemplate.execute(ACTIVATE_SCRIPT, List.of(POINTER_KEY), String.valueOf(generation)));
+        if (result != null && result == 1) {
+            current = generation;
+            log.info("캐시 세대 교체: generation={}", generation);
+            return true;
+        }
+        refresh();
+        return false;
+    }
+
+    private long cached() {
+        return current;
+    }
+}
@@ -0,0 +1,175 @@
+package com.yl.musinsa2.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리 캐시 계층별 HIT/MISS 지표
+ * - category.cache.requests{tier=l1|l2, type=node|tree, result=hit|miss}
+ * - category.cache.rebuild{outcome=...}, category.cache.rebuild.duration
+ * - category.cache.refresh{trigger=...}, category.cache.refresh.duration, category.cache.tree.redis.ttl.seconds
+ * - category.cache.bulk.batch.duration{operation=set|unlink} - Redis 일괄 작업 배치당 소요 시간
+ * - category.cache.warmup.duration{outcome=reused|rebuilt|remote|empty|failed} - 시작 시 워밍업 소요 시간
+ * - category.cache.tree.patch{operation=upsert|remove, outcome=patched|fallback} - 쓰기 시 트리 부분 반영 결과
+ * - category.cache.change{result=...}, category.cache.change.lag - 인스턴스 간 변경 전파 결과와 지연 (발행 -> 수신)
+ */
+@Component
+public class CategoryCacheMetrics {
+
+    public enum Tier {
+        L1, L2
+    }
+
+    public enum EntryType {
+        NODE, TREE
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new HashMap<>();
+    private final Timer rebuildTimer;
+    private final Timer refreshTimer;
+    private final Timer changeLagTimer;
+    // 마지막으로 확인한 Redis 트리의 남은 TTL (-2: 키 없음)
+    private final AtomicLong treeRedisTtlSeconds = new AtomicLong(-2);
+
+    public CategoryCacheMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        for (Tier tier : Tier.values()) {
+            for (EntryType type : EntryType.values()) {
+                register(tier, type, true);
+                register(tier, type, false);
+            }
+        }
+
+        this.rebuildTimer = Timer.builder("category.cache.rebuild.duration")
+                .description("카테고리 트리 재구성(DB 로딩 + 캐시 저장) 소요 시간")
+                .register(meterRegistry);
+
+        this.refreshTimer = Timer.builder("category.cache.refresh.duration")
+                .description("백그라운드 트리 갱신 소요 시간")
+                .register(meterRegistry);
+
+        this.changeLagTimer = Timer.builder("category.cache.change.lag")
+                .description("카테고리 변경 발행부터 다른 인스턴스 수신까지의 지연 (인스턴스 간 시계 차이 포함)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        meterRegistry.gauge("category.cache.tree.redis.ttl.seconds", treeRedisTtlSeconds);
+    }
+
+    public void hit(Tier tier, EntryType type) {
+        counters.get(counterKey(tier, type, true)).increment();
+    }
+
+    public void miss(Tier tier, EntryType type) {
+        counters.get(counterKey(tier, type, false)).increment();
+    }
+
+    /**
+     * 트리 재구성 요청 결과 (leader, coalesced, remote, timeout 등)
+     */
+    public void rebuild(String outcome) {
+        Counter.builder("category.cache.rebuild")
+                .description("카테고리 트리 재구성 요청 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public Timer getRebuildTimer() {
+        return rebuildTimer;
+    }
+
+    /**
+     * 백그라운드 갱신 요청 (stale, ahead, missing)
+     */
+    public void refresh(String trigger) {
+        Counter.builder("category.cache.refresh")
+                .description("백그라운드 트리 갱신 요청")
+                .tag("trigger", trigger)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public Timer getRefreshTimer() {
+        return refreshTimer;
+    }
+
+    /**
+     * Redis 일괄 작업 배치 타이머 (set, unlink)
+     */
+    public Timer getBulkTimer(String operation) {
+        return Timer.builder("category.cache.bulk.batch.duration")
+                .description("Redis 일괄 작업 배치당 소요 시간")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 워밍업 결과와 소요 시간
+     */
+    public void warmUp(String outcome, long elapsedNanos) {
+        Timer.builder("category.cache.warmup.duration")
+                .description("카테고리 캐시 시작 워밍업 소요 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 쓰기 시 트리 부분 반영 결과 (patched, fallback - 전체 무효화)
+     */
+    public void patch(String operation, String outcome) {
+        Counter.builder("category.cache.tree.patch")
+                .description("카테고리 변경 시 트리 부분 반영 결과")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 인스턴스 간 변경 전파 결과 (published, publish-failed, patched, evicted, resync, gap, duplicate, unreadable)
+     */
+    public void change(String result) {
+        Counter.builder("category.cache.change")
+                .description("카테고리 변경 전파 발행/수신 결과")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 변경 전파 지연 - 시계 차이로 음수가 되면 0 으로 기록
+     */
+    public void changeLag(long millis) {
+        changeLagTimer.record(Math.max(millis, 0), TimeUnit.MILLISECONDS);
+    }
+
+    public void treeRedisTtl(long seconds) {
+        treeRedisTtlSeconds.set(seconds);
+    }
+
+    private void register(Tier tier, EntryType type, boolean hit) {
+        Counter counter = Counter.builder("category.cache.requests")
+                .description("카테고리 캐시 계층별 조회 결과")
+                .tag("tier", tier.name().toLowerCase())
+                .tag("type", type.name().toLowerCase())
+                .tag("result", hit ? "hit" : "miss")
+                .register(meterRegistry);
+        counters.put(counterKey(tier, type, hit), counter);
+    }
+
+    private static String counterKey(Tier tier, EntryType type, boolean hit) {
+        return tier.name() + ":" + type.name() + ":" + hit;
+    }
+}
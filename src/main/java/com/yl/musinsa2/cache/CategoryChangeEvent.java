@@ -0,0 +1,36 @@
+package com.yl.musinsa2.cache;
+
+import com.yl.musinsa2.dto.CategoryDto;
+
+import java.util.List;
+
+/**
+ * 카테고리 변경 이벤트 - 커밋 후 발행되어 다른 인스턴스의 L1 캐시에 반영 (CategoryChangeBus)
+ * - UPSERT: 생성/수정 - category 는 변경 후 값, oldParentId 로 수신 측 트리가 뒤처졌는지 확인
+ * - REMOVE: 삭제 - ids 의 카테고리를 하위 트리와 함께 제거
+ * - RESYNC: 전체 재구성 - 부분 반영 없이 L1 전체 갱신
+ *
+ * @param ids        변경된 카테고리 id
+ * @param generation 변경을 기록한 캐시 세대 (인스턴스 간 공통 트리 버전, RESYNC 는 0)
+ */
+public record CategoryChangeEvent(Type type, List<Long> ids, CategoryDto category, Long oldParentId,
+                                  long generation) {
+
+    public enum Type {
+        UPSERT,
+        REMOVE,
+        RESYNC
+    }
+
+    public static CategoryChangeEvent upsert(CategoryDto category, Long oldParentId, long generation) {
+        return new CategoryChangeEvent(Type.UPSERT, List.of(category.getId()), category, oldParentId, generation);
+    }
+
+    public static CategoryChangeEvent remove(Long id, long generation) {
+        return new CategoryChangeEvent(Type.REMOVE, List.of(id), null, null, generation);
+    }
+
+    public static CategoryChangeEvent resync() {
+        return new CategoryChangeEvent(Type.RESYNC, List.of(), null, null, 0L);
+    }
+}
@@ -0,0 +1,164 @@
+package com.yl.musinsa2.cache;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 카테고리 이름 오타 허용 검색 색인 - BK-tree (불변)
+ * - 사전: 이름 전체와 이름의 각 단어 ("반소매 티셔츠" -> "반소매 티셔츠", "반소매", "티셔츠")
+ * - 거리: 자모 분해 텍스트의 편집 거리 ("스니커스" -> "스니커즈" 는 ㅅ/ㅈ 치환 1)
+ * - 삼각 부등식으로 거리 범위 [d - 허용 거리, d + 허용 거리] 밖의 자식 하위 트리는 방문하지 않음
+ * - 짧은 검색어는 거의 모든 단어와 가까우므로 허용 거리를 검색어 자모 길이의 1/4 로 제한
+ * - 검색은 마감 시각을 넘기면 그때까지 찾은 결과만 반환 (complete = false)
+ */
+public final class CategoryFuzzyIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    // 마감 시각 확인 간격 (방문 단어 수)
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private final Term root;
+
+    private CategoryFuzzyIndex(Term root) {
+        this.root = root;
+    }
+
+    /**
+     * @param matches  일치 노드 인덱스 (오름차순)
+     * @param complete 사전 전체를 확인했는지 여부 (시간 예산 초과 시 false)
+     */
+    public record Result(int[] matches, boolean complete) {
+    }
+
+    public static CategoryFuzzyIndex build(CategoryTreeSnapshot snapshot) {
+        // 단어 -> 노드 목록 (같은 단어는 BK-tree 항목 하나로 묶음)
+        Map<String, IntList> nodesByTerm = new LinkedHashMap<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            String name = CategorySearchIndex.normalize(snapshot.node(i).getName());
+            if (name.isEmpty()) {
+                continue;
+            }
+            nodesByTerm.computeIfAbsent(name, k -> new IntList()).add(i);
+            for (String word : name.split("[\\s/]+")) {
+                if (!word.isEmpty() && !word.equals(name)) {
+                    nodesByTerm.computeIfAbsent(word, k -> new IntList()).add(i);
+                }
+            }
+        }
+
+        Term root = null;
+        for (Map.Entry<String, IntList> entry : nodesByTerm.entrySet()) {
+            Term term = new Term(entry.getKey(), entry.getValue().toArray());
+            if (root == null) {
+                root = term;
+            } else {
+                root.insert(term);
+            }
+        }
+        return new CategoryFuzzyIndex(root);
+    }
+
+    /**
+     * 편집 거리가 maxDistance 이내인 단어를 가진 노드 검색
+     *
+     * @param deadlineNanos System.nanoTime() 기준 마감 시각
+     */
+    public Result search(String query, int maxDistance, long deadlineNanos) {
+        String normalized = HangulJamo.decompose(CategorySearchIndex.normalize(query));
+        int distance = Math.min(maxDistance, normalized.length() / 4);
+        if (normalized.isEmpty() || root == null) {
+            return new Result(EMPTY, true);
+        }
+
+        IntList found = new IntList();
+        Deque<Term> stack = new ArrayDeque<>();
+        stack.push(root);
+        int visited = 0;
+        boolean complete = true;
+
+        while (!stack.isEmpty()) {
+            if (++visited % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadlineNanos > 0) {
+                complete = false;
+                break;
+            }
+
+            Term term = stack.pop();
+            int d = levenshtein(normalized, term.jamo);
+            if (d <= distance) {
+                for (int node : term.nodes) {
+                    found.add(node);
+                }
+            }
+            if (term.children != null) {
+                for (Map.Entry<Integer, Term> child : term.children.entrySet()) {
+                    if (Math.abs(child.getKey() - d) <= distance) {
+                        stack.push(child.getValue());
+                    }
+                }
+            }
+        }
+
+        int[] matches = found.toArray();
+        Arrays.sort(matches);
+        return new Result(Arrays.stream(matches).distinct().toArray(), complete);
+    }
+
+    /**
+     * 편집 거리 (삽입/삭제/치환 비용 1) - 두 행만 사용
+     */
+    static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char c = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (c == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * BK-tree 항목 - 자식은 이 항목과의 편집 거리로 구분
+     */
+    private static final class Term {
+
+        private final String jamo;
+        private final int[] nodes;
+        private Map<Integer, Term> children;
+
+        private Term(String text, int[] nodes) {
+            this.jamo = HangulJamo.decompose(text);
+            this.nodes = nodes;
+        }
+
+        private void insert(Term term) {
+            Term current = this;
+            while (true) {
+                int d = levenshtein(current.jamo, term.jamo);
+                if (current.children == null) {
+                    current.children = new HashMap<>();
+                }
+                Term child = current.children.get(d);
+                if (child == null) {
+                    current.children.put(d, term);
+                    return;
+                }
+                current = child;
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.yl.musinsa2.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import com.yl.musinsa2.dto.CategoryDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * L1 캐시 - Redis(L2) 앞단의 애플리케이션 메모리 캐시
+ * - 역직렬화가 끝난 트리 스냅샷과 개별 카테고리를 보관하여 네트워크/JSON 변환 비용 제거
+ * - 트리 스냅샷은 AtomicReference로 통째로 교체되어 읽기 측은 락 없이 일관된 버전을 사용
+ * - refreshAfter 경과 또는 무효화된 스냅샷도 ttl 이내라면 재구성 중 응답용으로 유지
+ * - 보관된 객체는 공유되므로 호출 측에서 수정하지 않아야 함
+ */
+@Slf4j
+@Component
+public class CategoryLocalCache {
+
+    private final Cache<Long, CategoryDto> nodeCache;
+    private final AtomicReference<CategoryTreeSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+    // 이 버전 이하의 스냅샷은 무효화됨
+    private volatile long invalidatedVersion;
+    private final Duration refreshAfter;
+    private final Duration ttl;
+
+    // 검색/자동완성 색인 미리 생성 - 게시/부분 반영 스레드(요청 스레드, patch 모니터)에서 분리, 최신 스냅샷만 생성
+    private final ExecutorService indexWarmer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "category-index-warmer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean indexWarmScheduled = new AtomicBoolean();
+
+    public CategoryLocalCache(CategoryCacheProperties properties, MeterRegistry meterRegistry) {
+        CategoryCacheProperties.Local local = properties.getLocal();
+        this.refreshAfter = local.getRefreshAfter();
+        this.ttl = local.getTtl();
+
+        this.nodeCache = Caffeine.newBuilder()
+                .maximumSize(local.getMaximumSize())
+                .expireAfterWrite(local.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, nodeCache, "category.l1.node");
+        meterRegistry.gauge("category.l1.tree.size", snapshot,
+                ref -> ref.get() != null ? ref.get().size() : 0);
+        meterRegistry.gauge("category.l1.tree.version", snapshot,
+                ref -> ref.get() != null ? ref.get().getVersion() : 0);
+        meterRegistry.gauge("category.l1.tree.age.seconds", snapshot,
+                ref -> ref.get() != null ? age(ref.get()).toMillis() / 1000.0 : 0);
+        meterRegistry.gauge("category.l1.tree.stale", snapshot,
+                ref -> ref.get() != null && isStale(ref.get()) ? 1 : 0);
+        Gauge.builder("category.l1.tree.max-stale.seconds", ttl::toSeconds)
+                .description("이전 버전 트리로 응답할 수 있는 최대 지연")
+                .register(meterRegistry);
+    }
+
+    public CategoryDto getCategory(Long id) {
+        return nodeCache.getIfPresent(id);
+    }
+
+    public void putCategory(CategoryDto category) {
+        nodeCache.put(category.getId(), category);
+    }
+
+    public void putCategories(CategoryTreeSnapshot tree) {
+        for (int i = 0; i < tree.size(); i++) {
+            nodeCache.put(tree.id(i), tree.node(i));
+        }
+    }
+
+    public void evictCategory(Long id) {
+        nodeCache.invalidate(id);
+    }
+
+    /**
+     * 스냅샷 버전 발급 - 데이터 조회 "전"에 발급해야 조회 도중 발생한 무효화를 감지할 수 있음
+     */
+    public long nextVersion() {
+        return versionSequence.incrementAndGet();
+    }
+
+    /**
+     * 최신 트리 스냅샷 조회 - 무효화되었거나 갱신 시점(refreshAfter)이 지났으면 null
+     */
+    public CategoryTreeSnapshot getSnapshot() {
+        CategoryTreeSnapshot current = snapshot.get();
+        if (current == null || isInvalidated(current) || age(current).compareTo(refreshAfter) >= 0) {
+            return null;
+        }
+        return current;
+    }
+
+    /**
+     * 허용 지연(ttl) 이내의 스냅샷 조회 - 무효화/갱신 필요 여부와 관계없이 반환, 없으면 null
+     * 백그라운드 재구성이 끝날 때까지 이전 버전으로 응답하기 위해 사용 (stale-while-revalidate)
+     */
+    public CategoryTreeSnapshot getStaleSnapshot() {
+        CategoryTreeSnapshot current = snapshot.get();
+        if (current == null || age(current).compareTo(ttl) >= 0) {
+            return null;
+        }
+        return current;
+    }
+
+    /**
+     * 마지막으로 게시된 스냅샷 - 만료/무효화 여부와 관계없이 반환, 없으면 null
+     */
+    public CategoryTreeSnapshot getLastKnownSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * 트리 스냅샷 교체 - 더 오래된 버전이 최신 버전을 덮어쓰지 않도록 버전 비교
+     * 검색/자동완성 색인은 교체 후 백그라운드에서 생성 (생성 전 첫 검색은 스냅샷의 지연 생성을 사용)
+     */
+    public CategoryTreeSnapshot publish(CategoryTreeSnapshot newSnapshot) {
+        CategoryTreeSnapshot published = snapshot.accumulateAndGet(newSnapshot,
+                (current, candidate) -> current == null || candidate.getVersion() >= current.getVersion()
+                        ? candidate : current);
+        log.debug("L1 트리 스냅샷 교체: version={}, size={}", published.getVersion(), published.size());
+        warmIndexesAsync();
+        return published;
+    }
+
+    /**
+     * 최신 스냅샷의 색인 생성 예약 - 예약 중이면 무시 (연속 변경은 마지막 스냅샷 한 번만 생성)
+     */
+    private void warmIndexesAsync() {
+        if (!indexWarmScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            indexWarmer.execute(() -> {
+                indexWarmScheduled.set(false);
+                CategoryTreeSnapshot latest = snapshot.get();
+                try {
+                    if (latest != null) {
+                        latest.searchIndex();
+                        latest.prefixIndex();
+                    }
+                } catch (Exception e) {
+                    log.error("검색 색인 생성 실패: version={}", latest.getVersion(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            indexWarmScheduled.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdownIndexWarmer() {
+        indexWarmer.shutdownNow();
+    }
+
+    /**
+     * 현재 스냅샷에 변경을 반영한 새 스냅샷 게시 (copy-on-write - 읽는 중인 요청은 이전 스냅샷을 그대로 사용)
+     * - 최신 스냅샷(무효화/갱신 시점 이전)이 있을 때만 적용, 없거나 변경을 반영할 수 없으면 null (호출 측에서 무효화)
+     * - 진행 중인 재구성(이전에 발급된 버전)은 변경 전 데이터를 읽었을 수 있으므로 무효화하고,
+     *   새 스냅샷은 그 이후 버전으로 게시
+     * - 인스턴스 내 변경은 하나씩 적용 (같은 스냅샷에서 시작한 변경이 서로를 덮어쓰지 않도록)
+     *   모니터 안에서는 스냅샷 배열만 갱신 (노드 교체, 리프 삽입/하위 트리 제거는 정렬 없는 배열 복사) -
+     *   색인 생성은 publish 이후 백그라운드에서 수행
+     */
+    public synchronized CategoryTreeSnapshot patch(TreePatch patch) {
+        CategoryTreeSnapshot current = getSnapshot();
+        if (current == null) {
+            return null;
+        }
+
+        invalidatedVersion = versionSequence.incrementAndGet();
+        CategoryTreeSnapshot patched = patch.apply(current, versionSequence.incrementAndGet());
+        if (patched == null) {
+            return null;
+        }
+        return publish(patched);
+    }
+
+    /**
+     * 스냅샷 변경 - 변경을 반영할 수 없으면 null
+     */
+    @FunctionalInterface
+    public interface TreePatch {
+
+        CategoryTreeSnapshot apply(CategoryTreeSnapshot current, long newVersion);
+    }
+
+    /**
+     * 트리 무효화 - 현재까지 발급된 버전의 스냅샷은 모두 갱신 대상이 됨
+     * 스냅샷 자체는 재구성이 끝날 때까지 이전 버전 응답용으로 유지
+     */
+    public void evictTree() {
+        invalidatedVersion = versionSequence.incrementAndGet();
+    }
+
+    public void clear() {
+        nodeCache.invalidateAll();
+        evictTree();
+        log.debug("L1 캐시 전체 무효화");
+    }
+
+    public boolean isStale(CategoryTreeSnapshot current) {
+        return isInvalidated(current) || age(current).compareTo(refreshAfter) >= 0;
+    }
+
+    private boolean isInvalidated(CategoryTreeSnapshot current) {
+        return current.getVersion() <= invalidatedVersion;
+    }
+
+    private static Duration age(CategoryTreeSnapshot current) {
+        return Duration.between(current.getCreatedAt(), Instant.now());
+    }
+}
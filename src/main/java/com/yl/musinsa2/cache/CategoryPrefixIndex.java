@@ -0,0 +1,163 @@
+package com.yl.musinsa2.cache;
+
+import com.yl.musinsa2.dto.CategoryDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 카테고리 자동완성 접두어 색인 (불변)
+ * - 키: 이름의 각 단어 시작 위치부터의 자모 분해 텍스트와 초성 텍스트, 소문자 코드
+ *   ("반소매 티셔츠" -> "ㅂㅏㄴㅅㅗㅁㅐ ㅌㅣ...", "ㅌㅣㅅㅕㅊㅡ", "ㅂㅅㅁ ㅌㅅㅊ", "ㅌㅅㅊ")
+ * - 키를 정렬한 배열 하나로 구성 - 접두어 일치 항목은 연속 구간이므로 이진 탐색 후 구간만 확인
+ * - 순위: 깊이 -> displayOrder -> 전위 순서 (얕고 앞선 카테고리 우선), 노드별 순위를 미리 계산
+ * - 조회는 결과 크기(limit)의 배열 외에 할당 없음, 비용은 O(log 키 수 + 일치 구간 x limit)
+ * - 스냅샷과 함께 만들어지고 함께 교체됨 (버전이 바뀌면 새 스냅샷의 색인 사용)
+ */
+public final class CategoryPrefixIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final String[] keys;
+    private final int[] nodeIndexes;
+    private final int[] ranks;
+
+    private CategoryPrefixIndex(String[] keys, int[] nodeIndexes, int[] ranks) {
+        this.keys = keys;
+        this.nodeIndexes = nodeIndexes;
+        this.ranks = ranks;
+    }
+
+    public static CategoryPrefixIndex build(CategoryTreeSnapshot snapshot) {
+        int size = snapshot.size();
+
+        // 노드별 순위 - 깊이 -> displayOrder -> 전위 순서
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator
+                .comparingInt(snapshot::depth)
+                .thenComparingInt((Integer i) -> displayOrder(snapshot.node(i)))
+                .thenComparingInt(i -> i));
+        int[] rankByNode = new int[size];
+        for (int r = 0; r < size; r++) {
+            rankByNode[order[r]] = r;
+        }
+
+        List<Entry> entries = new ArrayList<>(size * 4);
+        for (int i = 0; i < size; i++) {
+            CategoryDto node = snapshot.node(i);
+            String name = CategorySearchIndex.normalize(node.getName());
+            for (int start = 0; start < name.length(); start = nextWordStart(name, start)) {
+                String word = name.substring(start);
+                String jamo = HangulJamo.decompose(word);
+                String chosung = HangulJamo.chosung(word);
+                entries.add(new Entry(jamo, i));
+                if (!chosung.equals(jamo)) {
+                    entries.add(new Entry(chosung, i));
+                }
+            }
+            String code = CategorySearchIndex.normalize(node.getCode());
+            if (!code.isEmpty()) {
+                entries.add(new Entry(code, i));
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::key));
+
+        int count = entries.size();
+        String[] keys = new String[count];
+        int[] nodeIndexes = new int[count];
+        int[] ranks = new int[count];
+        for (int e = 0; e < count; e++) {
+            Entry entry = entries.get(e);
+            keys[e] = entry.key();
+            nodeIndexes[e] = entry.node();
+            ranks[e] = rankByNode[entry.node()];
+        }
+        return new CategoryPrefixIndex(keys, nodeIndexes, ranks);
+    }
+
+    /**
+     * 접두어와 일치하는 노드 인덱스 - 순위 순으로 최대 limit 개 (같은 노드는 한 번만)
+     */
+    public int[] search(String prefix, int limit) {
+        String normalized = CategorySearchIndex.normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return EMPTY;
+        }
+        String query = HangulJamo.decompose(normalized);
+
+        // 순위 오름차순으로 유지하는 상위 limit 개 버퍼
+        int[] bestRanks = new int[limit];
+        int[] bestNodes = new int[limit];
+        int count = 0;
+
+        for (int e = lowerBound(query); e < keys.length && keys[e].startsWith(query); e++) {
+            int rank = ranks[e];
+            if (count == limit && rank >= bestRanks[count - 1]) {
+                continue;
+            }
+            int position = count;
+            boolean duplicate = false;
+            while (position > 0 && bestRanks[position - 1] >= rank) {
+                if (bestRanks[position - 1] == rank) {
+                    duplicate = true;
+                    break;
+                }
+                position--;
+            }
+            if (duplicate) {
+                continue;
+            }
+            int shift = Math.min(count, limit - 1) - position;
+            System.arraycopy(bestRanks, position, bestRanks, position + 1, shift);
+            System.arraycopy(bestNodes, position, bestNodes, position + 1, shift);
+            bestRanks[position] = rank;
+            bestNodes[position] = nodeIndexes[e];
+            count = Math.min(count + 1, limit);
+        }
+        return count == limit ? bestNodes : Arrays.copyOf(bestNodes, count);
+    }
+
+    private int lowerBound(String query) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 다음 단어 시작 위치 - 공백이나 '/' 뒤의 첫 문자, 없으면 텍스트 길이
+     */
+    private static int nextWordStart(String text, int from) {
+        int i = from;
+        while (i < text.length() && !isWordSeparator(text.charAt(i))) {
+            i++;
+        }
+        while (i < text.length() && isWordSeparator(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWordSeparator(char c) {
+        return Character.isWhitespace(c) || c == '/';
+    }
+
+    private static int displayOrder(CategoryDto node) {
+        return node.getDisplayOrder() != null ? node.getDisplayOrder() : 0;
+    }
+
+    private record Entry(String key, int node) {
+    }
+}
@@ -0,0 +1,187 @@
+package com.yl.musinsa2.cache;
+
+import com.yl.musinsa2.dto.CategoryDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 검색 n-gram 역색인 (불변)
+ * - 검색 대상: name, storeTitle, groupTitle (필드 사이는 구분 문자로 분리되어 필드를 넘는 일치 없음)
+ * - 자모 색인: 음절 경계를 포함한 자모 분해 텍스트 - 일반 검색어와 입력 중인 마지막 음절("티셔ㅊ", "반소ㅁ")
+ *   마지막 음절을 제외한 검색어 음절은 음절 단위로 정확히 일치해야 함 ("신발" -> 신바람 제외)
+ * - 초성 색인: 초성 텍스트 - 초성만 입력한 검색어("ㅌㅅㅊ" -> 티셔츠)
+ * - 각 색인은 1글자(unigram), 2글자(bigram) 단위로 노드 인덱스 목록(posting)을 보관
+ * - posting은 스냅샷 전위 순서(오름차순) - 서브트리 범위 [from, to) 검색에 이진 탐색 사용
+ * - 검색어의 모든 bigram posting 교집합을 구한 뒤 실제 포함 여부를 확인하므로 비용은 후보 수에 비례
+ * - 스냅샷과 함께 만들어지고 함께 교체됨
+ */
+public final class CategorySearchIndex {
+
+    private static final int[] EMPTY = new int[0];
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final GramIndex jamoIndex;
+    private final GramIndex chosungIndex;
+
+    private CategorySearchIndex(GramIndex jamoIndex, GramIndex chosungIndex) {
+        this.jamoIndex = jamoIndex;
+        this.chosungIndex = chosungIndex;
+    }
+
+    public static CategorySearchIndex build(CategoryTreeSnapshot snapshot) {
+        int size = snapshot.size();
+        String[] jamoTexts = new String[size];
+        String[] chosungTexts = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            CategoryDto node = snapshot.node(i);
+            String text = searchableText(node.getName(), node.getStoreTitle(), node.getGroupTitle());
+            jamoTexts[i] = HangulJamo.decomposeSyllables(text, false);
+            chosungTexts[i] = HangulJamo.chosung(text);
+        }
+        return new CategorySearchIndex(GramIndex.build(jamoTexts), GramIndex.build(chosungTexts));
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인 없이 단일 카테고리 일치 여부 확인 (색인과 같은 규칙)
+     */
+    public static boolean matches(String query, String name, String storeTitle, String groupTitle) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        String text = searchableText(name, storeTitle, groupTitle);
+        return HangulJamo.isChosungOnly(normalized)
+                ? HangulJamo.chosung(text).contains(normalized)
+                : HangulJamo.decomposeSyllables(text, false).contains(HangulJamo.decomposeSyllables(normalized, true));
+    }
+
+    /**
+     * 검색어와 일치하는 노드 인덱스 (오름차순)
+     */
+    public int[] search(String query) {
+        return search(query, 0, jamoIndex.texts.length);
+    }
+
+    /**
+     * 범위 [from, to) 안에서 검색어와 일치하는 노드 인덱스 (오름차순)
+     */
+    public int[] search(String query, int from, int to) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || from >= to) {
+            return EMPTY;
+        }
+        if (HangulJamo.isChosungOnly(normalized)) {
+            return chosungIndex.search(normalized, from, to);
+        }
+        return jamoIndex.search(HangulJamo.decomposeSyllables(normalized, true), from, to);
+    }
+
+    private static String searchableText(String name, String storeTitle, String groupTitle) {
+        return normalize(name) + FIELD_SEPARATOR + normalize(storeTitle) + FIELD_SEPARATOR + normalize(groupTitle);
+    }
+
+    /**
+     * 텍스트 배열에 대한 unigram/bigram 역색인
+     */
+    private static final class GramIndex {
+
+        private final String[] texts;
+        private final Map<String, int[]> postings;
+
+        private GramIndex(String[] texts, Map<String, int[]> postings) {
+            this.texts = texts;
+            this.postings = postings;
+        }
+
+        static GramIndex build(String[] texts) {
+            Map<String, IntList> building = new HashMap<>();
+            Set<String> grams = new HashSet<>();
+
+            for (int i = 0; i < texts.length; i++) {
+                String text = texts[i];
+                grams.clear();
+                for (int c = 0; c < text.length(); c++) {
+                    if (text.charAt(c) == FIELD_SEPARATOR) {
+                        continue;
+                    }
+                    grams.add(text.substring(c, c + 1));
+                    if (c + 1 < text.length() && text.charAt(c + 1) != FIELD_SEPARATOR) {
+                        grams.add(text.substring(c, c + 2));
+                    }
+                }
+                for (String gram : grams) {
+                    building.computeIfAbsent(gram, k -> new IntList()).add(i);
+                }
+            }
+
+            Map<String, int[]> postings = new HashMap<>(building.size() * 4 / 3 + 1);
+            building.forEach((gram, list) -> postings.put(gram, list.toArray()));
+            return new GramIndex(texts, postings);
+        }
+
+        int[] search(String query, int from, int to) {
+            List<int[]> lists = new ArrayList<>();
+            if (query.length() == 1) {
+                int[] posting = postings.get(query);
+                if (posting == null) {
+                    return EMPTY;
+                }
+                lists.add(posting);
+            } else {
+                Set<String> seen = new HashSet<>();
+                for (int c = 0; c + 2 <= query.length(); c++) {
+                    String gram = query.substring(c, c + 2);
+                    if (seen.add(gram)) {
+                        int[] posting = postings.get(gram);
+                        if (posting == null) {
+                            return EMPTY;
+                        }
+                        lists.add(posting);
+                    }
+                }
+            }
+            lists.sort(Comparator.comparingInt(list -> list.length));
+
+            // 가장 짧은 posting의 범위 구간만 후보로 사용
+            int[] smallest = lists.get(0);
+            int start = lowerBound(smallest, from);
+            int end = lowerBound(smallest, to);
+
+            IntList matches = new IntList();
+            for (int p = start; p < end; p++) {
+                int candidate = smallest[p];
+                if (containsAll(lists, candidate) && texts[candidate].contains(query)) {
+                    matches.add(candidate);
+                }
+            }
+            return matches.toArray();
+        }
+
+        private static boolean containsAll(List<int[]> lists, int candidate) {
+            for (int k = 1; k < lists.size(); k++) {
+                if (Arrays.binarySearch(lists.get(k), candidate) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int lowerBound(int[] sorted, int value) {
+            int found = Arrays.binarySearch(sorted, value);
+            return found >= 0 ? found : -found - 1;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.yl.musinsa2.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yl.musinsa2.config.CategorySearchProperties;
+import com.yl.musinsa2.dto.CategoryResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 캐시 - (트리 버전, 검색 루트, 정규화된 검색어, fuzzy) 단위로 결과 트리 보관
+ * - 검색어 분포가 소수 인기 검색어에 치우쳐 있어 결과 트리 구성 비용을 재사용
+ * - 예상 메모리 크기로 가중치를 매겨 전체 크기를 제한 (maximumWeight, LRU에 가까운 W-TinyLFU 교체)
+ * - 새 트리 버전의 조회가 들어오면 이전 버전 결과를 모두 제거, 이전 버전 스냅샷의 결과는 저장하지 않음
+ * - 부분 결과(오타 허용 검색의 시간 예산 초과)는 저장하지 않음 - 다음 조회에서 다시 구성
+ * - 보관된 응답 객체는 공유되므로 호출 측에서 수정하지 않아야 함
+ * - 지표: category.search.result.hit.ratio, category.search.result.weight.bytes (+ cache.* 기본 지표)
+ */
+@Slf4j
+@Component
+public class CategorySearchResultCache {
+
+    // 전체 트리 검색의 루트 id
+    public static final long ALL_ROOTS = -1L;
+
+    // 응답 노드 1개의 고정 크기 추정치 (객체 헤더, 필드, 시간/열거형 참조, 목록 항목)
+    private static final int NODE_OVERHEAD_BYTES = 200;
+    private static final int KEY_OVERHEAD_BYTES = 64;
+
+    private final boolean enabled;
+    private final Cache<Key, List<CategoryResponse>> cache;
+    // 캐시에 저장 중인 트리 버전 - 이보다 오래된 버전의 결과는 저장하지 않음
+    private final AtomicLong currentVersion = new AtomicLong();
+
+    private record Key(long version, long rootId, String query, boolean fuzzy) {
+    }
+
+    /**
+     * 구성 결과
+     *
+     * @param complete 전체 결과인지 여부 - false 이면 저장하지 않음
+     */
+    public record Loaded(List<CategoryResponse> result, boolean complete) {
+    }
+
+    public CategorySearchResultCache(CategorySearchProperties properties, MeterRegistry meterRegistry) {
+        CategorySearchProperties.ResultCache resultCache = properties.getResultCache();
+        this.enabled = resultCache.isEnabled();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(resultCache.getMaximumWeight().toBytes())
+                .weigher((Key key, List<CategoryResponse> value) -> weigh(key, value))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "category.search.result");
+        Gauge.builder("category.search.result.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("검색 결과 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("category.search.result.weight.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("검색 결과 캐시 예상 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 검색 결과 조회, 없으면 loader 로 구성하여 저장 (같은 키의 동시 요청은 한 번만 구성)
+     *
+     * @param version 검색에 사용한 스냅샷 버전
+     * @param rootId  검색 루트 카테고리 id (전체 검색은 ALL_ROOTS)
+     */
+    public List<CategoryResponse> get(long version, long rootId, String query, boolean fuzzy,
+                                      Supplier<List<CategoryResponse>> loader) {
+        return load(version, rootId, query, fuzzy, () -> new Loaded(loader.get(), true));
+    }
+
+    /**
+     * 캐시된 검색 결과 조회, 없으면 loader 로 구성 - 전체 결과(complete)만 저장하고 부분 결과는 그대로 반환
+     */
+    public List<CategoryResponse> load(long version, long rootId, String query, boolean fuzzy,
+                                       Supplier<Loaded> loader) {
+        if (!enabled || !advanceTo(version)) {
+            return loader.get().result();
+        }
+        Key key = new Key(version, rootId, CategorySearchIndex.normalize(query), fuzzy);
+        Loaded[] partial = new Loaded[1];
+        List<CategoryResponse> cached = cache.get(key, k -> {
+            Loaded loaded = loader.get();
+            if (loaded.complete()) {
+                return loaded.result();
+            }
+            // 매핑 함수가 null 을 반환하면 Caffeine 은 저장하지 않음
+            partial[0] = loaded;
+            return null;
+        });
+        return cached != null ? cached : partial[0].result();
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 현재 버전 갱신 - 더 새 버전이면 이전 버전 결과를 제거
+     *
+     * @return 이 버전의 결과를 저장해도 되는지 여부 (이전 버전이면 false)
+     */
+    private boolean advanceTo(long version) {
+        long current = currentVersion.get();
+        while (version > current) {
+            if (currentVersion.compareAndSet(current, version)) {
+                cache.invalidateAll();
+                log.debug("검색 결과 캐시 버전 교체: {} -> {}", current, version);
+                return true;
+            }
+            current = currentVersion.get();
+        }
+        return version == current;
+    }
+
+    private static int weigh(Key key, List<CategoryResponse> value) {
+        long bytes = KEY_OVERHEAD_BYTES + 2L * key.query().length();
+        for (CategoryResponse response : value) {
+            bytes += estimateBytes(response);
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static long estimateBytes(CategoryResponse response) {
+        long bytes = NODE_OVERHEAD_BYTES
+                + 2L * (length(response.getName()) + length(response.getDescription()) + length(response.getCode())
+                + length(response.getStoreCode()) + length(response.getStoreTitle())
+                + length(response.getGroupTitle()) + length(response.getParentName()));
+        if (response.getChildren() != null) {
+            for (CategoryResponse child : response.getChildren()) {
+                bytes += estimateBytes(child);
+            }
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -0,0 +1,801 @@
+package com.yl.musinsa2.cache;
+
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.dto.CategoryResponse;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 카테고리 트리 읽기 모델 (불변)
+ * - 노드는 전위 순회(DFS) 순서로 배열에 배치되며, 형제는 displayOrder -> id 순으로 정렬
+ * - id / code / 부모 -> 자식 범위를 배열 인덱스로 조회 (트리 재구성, 재귀 탐색 없음)
+ * - 하위 트리는 전위 순서 구간 [i, subtreeEnd(i)) (nested set) 이므로 하위 여부를 구간 포함으로 O(1) 판단
+ * - 한 번 생성되면 변경되지 않으므로 여러 요청이 락 없이 공유
+ * - 노드(CategoryDto)는 공유 객체이므로 호출 측에서 수정하면 안 됨
+ */
+public final class CategoryTreeSnapshot {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final Comparator<CategoryDto> SIBLING_ORDER = Comparator
+            .comparingInt((CategoryDto c) -> c.getDisplayOrder() != null ? c.getDisplayOrder() : 0)
+            .thenComparing(CategoryDto::getId);
+
+    private static final CategoryTreeSnapshot EMPTY = build(0L, Collections.emptyList());
+
+    private final long version;
+    private final Instant createdAt;
+
+    // 전위 순회 순서의 노드 배열
+    private final CategoryDto[] nodes;
+    private final long[] ids;
+    private final int[] parentIndexes;
+    private final int[] depths;
+    // 서브트리 범위 [i, subtreeEnds[i])
+    private final int[] subtreeEnds;
+
+    // 부모별 자식 목록 - childIndexes[childStarts[i] .. childStarts[i + 1])
+    private final int[] childStarts;
+    private final int[] childIndexes;
+    private final int[] rootIndexes;
+
+    // 루트부터 노드까지의 경로 (브레드크럼) - pathIndexes[pathStarts[i] .. pathStarts[i + 1]), 길이는 depth + 1
+    private final int[] pathStarts;
+    private final int[] pathIndexes;
+
+    // id -> 인덱스 (id 분포가 촘촘하면 직접 주소 배열, 아니면 정렬 배열 이진 탐색)
+    private final long minId;
+    private final int[] indexById;
+    private final long[] sortedIds;
+    private final int[] sortedIdIndexes;
+
+    private final Map<String, Integer> indexByCode;
+
+    // 트리 내용 해시 - 노드 해시의 합이므로 노드 하나가 바뀌면 O(1)로 갱신 (ETag 용, 렌더링 없이 발급)
+    private final long contentHash;
+
+    // 검색/자동완성 색인 - 처음 필요할 때 한 번 생성 (게시 후 백그라운드에서 미리 생성, CategoryLocalCache.publish)
+    private volatile CategorySearchIndex searchIndex;
+    private volatile CategoryPrefixIndex prefixIndex;
+    // 오타 허용 검색 색인 - 선택 기능이므로 미리 생성하지 않고 첫 퍼지 검색 시 생성
+    private volatile CategoryFuzzyIndex fuzzyIndex;
+
+    private CategoryTreeSnapshot(long version, Instant createdAt, CategoryDto[] nodes, int[] parentIndexes,
+                                 int[] depths, int[] subtreeEnds, int[] childStarts, int[] childIndexes,
+                                 int[] rootIndexes, long contentHash) {
+        this.version = version;
+        this.createdAt = createdAt;
+        this.nodes = nodes;
+        this.parentIndexes = parentIndexes;
+        this.depths = depths;
+        this.subtreeEnds = subtreeEnds;
+        this.childStarts = childStarts;
+        this.childIndexes = childIndexes;
+        this.rootIndexes = rootIndexes;
+
+        int size = nodes.length;
+
+        // 전위 순서이므로 부모 경로가 먼저 채워짐 - 부모 경로를 복사하고 자신을 추가
+        this.pathStarts = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            pathStarts[i + 1] = pathStarts[i] + depths[i] + 1;
+        }
+        this.pathIndexes = new int[pathStarts[size]];
+        for (int i = 0; i < size; i++) {
+            int parent = parentIndexes[i];
+            if (parent != NOT_FOUND) {
+                System.arraycopy(pathIndexes, pathStarts[parent], pathIndexes, pathStarts[i], depths[i]);
+            }
+            pathIndexes[pathStarts[i] + depths[i]] = i;
+        }
+
+        this.ids = new long[size];
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        Map<String, Integer> codes = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            long id = nodes[i].getId();
+            ids[i] = id;
+            min = Math.min(min, id);
+            max = Math.max(max, id);
+            if (nodes[i].getCode() != null) {
+                codes.put(nodes[i].getCode(), i);
+            }
+        }
+        this.indexByCode = codes;
+        this.contentHash = contentHash;
+
+        long span = size == 0 ? 0 : max - min + 1;
+        if (size > 0 && span <= Math.max(1024L, 4L * size)) {
+            this.minId = min;
+            this.indexById = new int[(int) span];
+            Arrays.fill(indexById, NOT_FOUND);
+            for (int i = 0; i < size; i++) {
+                indexById[(int) (ids[i] - min)] = i;
+            }
+            this.sortedIds = null;
+            this.sortedIdIndexes = null;
+        } else {
+            this.minId = 0;
+            this.indexById = null;
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingLong(i -> ids[i]));
+            this.sortedIds = new long[size];
+            this.sortedIdIndexes = new int[size];
+            for (int i = 0; i < size; i++) {
+                sortedIds[i] = ids[order[i]];
+                sortedIdIndexes[i] = order[i];
+            }
+        }
+    }
+
+    /**
+     * 구조가 같은 스냅샷 - 노드 배열만 교체하고 구조/id 색인 배열은 공유 (노드 내용만 바뀐 변경용)
+     */
+    private CategoryTreeSnapshot(long version, CategoryTreeSnapshot base, CategoryDto[] nodes,
+                                 Map<String, Integer> indexByCode, long contentHash) {
+        this.version = version;
+        this.createdAt = base.createdAt;
+        this.nodes = nodes;
+        this.ids = base.ids;
+        this.parentIndexes = base.parentIndexes;
+        this.depths = base.depths;
+        this.subtreeEnds = base.subtreeEnds;
+        this.childStarts = base.childStarts;
+        this.childIndexes = base.childIndexes;
+        this.rootIndexes = base.rootIndexes;
+        this.pathStarts = base.pathStarts;
+        this.pathIndexes = base.pathIndexes;
+        this.minId = base.minId;
+        this.indexById = base.indexById;
+        this.sortedIds = base.sortedIds;
+        this.sortedIdIndexes = base.sortedIdIndexes;
+        this.indexByCode = indexByCode;
+        this.contentHash = contentHash;
+    }
+
+    public static CategoryTreeSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 평면 카테고리 목록(parentId 포함)으로 스냅샷 생성
+     * - 부모가 목록에 없는 노드(삭제된 부모의 자식 등)는 트리에 포함되지 않음
+     */
+    public static CategoryTreeSnapshot build(long version, Collection<CategoryDto> categories) {
+        return build(version, categories, null, Instant.now());
+    }
+
+    /**
+     * 서브트리 평면 목록으로 스냅샷 생성 - rootId 카테고리를 부모 여부와 관계없이 루트로 취급
+     */
+    public static CategoryTreeSnapshot buildSubtree(long version, long rootId, Collection<CategoryDto> categories) {
+        return build(version, categories, rootId, Instant.now());
+    }
+
+    private static CategoryTreeSnapshot build(long version, Collection<CategoryDto> categories, Long rootId,
+                                              Instant createdAt) {
+        Map<Long, List<CategoryDto>> childrenByParent = new HashMap<>();
+        List<CategoryDto> roots = new ArrayList<>();
+
+        for (CategoryDto category : categories) {
+            if (category.getParentId() == null || category.getId().equals(rootId)) {
+                roots.add(category);
+            } else {
+                childrenByParent.computeIfAbsent(category.getParentId(), k -> new ArrayList<>()).add(category);
+            }
+        }
+        roots.sort(SIBLING_ORDER);
+        childrenByParent.values().forEach(children -> children.sort(SIBLING_ORDER));
+
+        int capacity = categories.size();
+        CategoryDto[] nodes = new CategoryDto[capacity];
+        int[] parentIndexes = new int[capacity];
+        int[] depths = new int[capacity];
+        int[] subtreeEnds = new int[capacity];
+
+        // 반복문 기반 전위 순회 (깊은 트리에서도 스택 오버플로우 없음)
+        int size = 0;
+        Deque<int[]> stack = new ArrayDeque<>();       // {노드 인덱스, 다음 자식 위치}
+        Deque<List<CategoryDto>> childLists = new ArrayDeque<>();
+        for (CategoryDto root : roots) {
+            nodes[size] = root;
+            parentIndexes[size] = NOT_FOUND;
+            depths[size] = 0;
+            stack.push(new int[]{size, 0});
+            childLists.push(childrenByParent.getOrDefault(root.getId(), Collections.emptyList()));
+            size++;
+
+            while (!stack.isEmpty()) {
+                int[] frame = stack.peek();
+                List<CategoryDto> children = childLists.peek();
+                if (frame[1] < children.size()) {
+                    CategoryDto child = children.get(frame[1]++);
+                    nodes[size] = child;
+                    parentIndexes[size] = frame[0];
+                    depths[size] = depths[frame[0]] + 1;
+                    stack.push(new int[]{size, 0});
+                    childLists.push(childrenByParent.getOrDefault(child.getId(), Collections.emptyList()));
+                    size++;
+                } else {
+                    subtreeEnds[frame[0]] = size;
+                    stack.pop();
+                    childLists.pop();
+                }
+            }
+        }
+
+        if (size < capacity) {
+            nodes = Arrays.copyOf(nodes, size);
+            parentIndexes = Arrays.copyOf(parentIndexes, size);
+            depths = Arrays.copyOf(depths, size);
+            subtreeEnds = Arrays.copyOf(subtreeEnds, size);
+        }
+
+        // 부모 이름 보정 (평면 로딩 결과에는 부모 이름이 없을 수 있음)
+        for (int i = 0; i < size; i++) {
+            int parent = parentIndexes[i];
+            if (parent != NOT_FOUND && nodes[i].getParentName() == null) {
+                nodes[i] = nodes[i].toBuilder().parentName(nodes[parent].getName()).build();
+            }
+        }
+
+        return of(version, createdAt, nodes, parentIndexes, depths, subtreeEnds);
+    }
+
+    private static CategoryTreeSnapshot of(long version, Instant createdAt, CategoryDto[] nodes, int[] parentIndexes,
+                                           int[] depths, int[] subtreeEnds) {
+        long contentHash = 0;
+        for (CategoryDto node : nodes) {
+            contentHash += nodeHash(node);
+        }
+        return of(version, createdAt, nodes, parentIndexes, depths, subtreeEnds, contentHash);
+    }
+
+    /**
+     * 전위 순서 배열로 스냅샷 생성 - 부모별 자식 범위만 계산 (정렬 없이 O(n))
+     */
+    private static CategoryTreeSnapshot of(long version, Instant createdAt, CategoryDto[] nodes, int[] parentIndexes,
+                                           int[] depths, int[] subtreeEnds, long contentHash) {
+        int size = nodes.length;
+
+        // 부모별 자식 범위 (전위 순서로 방문하므로 형제는 이미 정렬된 순서)
+        int[] childCounts = new int[size + 1];
+        int rootCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (parentIndexes[i] == NOT_FOUND) {
+                rootCount++;
+            } else {
+                childCounts[parentIndexes[i] + 1]++;
+            }
+        }
+        int[] childStarts = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            childStarts[i + 1] = childStarts[i] + childCounts[i + 1];
+        }
+        int[] childIndexes = new int[size - rootCount];
+        int[] cursor = Arrays.copyOf(childStarts, size);
+        int[] rootIndexes = new int[rootCount];
+        int rootCursor = 0;
+        for (int i = 0; i < size; i++) {
+            int parent = parentIndexes[i];
+            if (parent == NOT_FOUND) {
+                rootIndexes[rootCursor++] = i;
+            } else {
+                childIndexes[cursor[parent]++] = i;
+            }
+        }
+
+        return new CategoryTreeSnapshot(version, createdAt, nodes, parentIndexes, depths, subtreeEnds,
+                childStarts, childIndexes, rootIndexes, contentHash);
+    }
+
+    /**
+     * 중첩 트리(CategoryDto.children)로 스냅샷 생성 - Redis 트리 캐시 복원용
+     */
+    public static CategoryTreeSnapshot fromTree(long version, List<CategoryDto> roots) {
+        List<CategoryDto> flat = new ArrayList<>();
+        Deque<CategoryDto> stack = new ArrayDeque<>(roots);
+        while (!stack.isEmpty()) {
+            CategoryDto node = stack.pop();
+            if (node.getChildren() != null) {
+                node.getChildren().forEach(stack::push);
+            }
+            flat.add(node.toBuilder().children(null).build());
+        }
+        return build(version, flat);
+    }
+
+    /**
+     * 카테고리 추가/수정/이동을 반영한 새 스냅샷 (copy-on-write, 이 스냅샷은 변경하지 않음)
+     * - 변경되지 않은 노드 객체는 새 스냅샷과 공유하고, 변경된 노드와 parentName 이 바뀌는 자식만 새로 생성
+     * - 부모와 형제 순서(displayOrder)가 그대로면 구조/id 색인 배열도 공유 (노드 배열만 복사)
+     * - 새 카테고리는 하위가 없으므로 형제 순서 위치에 배열을 이어 붙임 (정렬/재구성 없이 O(n) 복사)
+     * - 부모나 형제 순서가 바뀌면 하위 트리와 함께 새 위치로 이동 - 공유 노드로 배열 구조만 다시 구성 (O(n log n),
+     *   호출 측에서 요청 스레드 대신 재구성 경로로 넘길 수 있도록 {@link #isMove} 로 미리 확인)
+     * - 생성 시각은 이 스냅샷을 따름 (변경되지 않은 노드의 허용 지연이 늘어나지 않도록)
+     *
+     * @return 부모가 스냅샷에 없거나 자기 하위로 이동하는 경우 null (전체 재구성 필요)
+     */
+    public CategoryTreeSnapshot withUpsert(long newVersion, CategoryDto category) {
+        Long parentId = category.getParentId();
+        int parent = parentId != null ? indexOf(parentId) : NOT_FOUND;
+        if (parentId != null && parent == NOT_FOUND) {
+            return null;
+        }
+
+        CategoryDto node = category.toBuilder()
+                .children(null)
+                .parentName(parent != NOT_FOUND ? nodes[parent].getName() : null)
+                .build();
+        int index = indexOf(category.getId());
+        if (index == NOT_FOUND) {
+            return withLeafInserted(newVersion, parent, node);
+        }
+
+        if (parent != NOT_FOUND && parent >= index && parent < subtreeEnds[index]) {
+            return null;
+        }
+
+        CategoryDto previous = nodes[index];
+        CategoryDto[] patched = nodes.clone();
+        patched[index] = node;
+        if (!Objects.equals(previous.getName(), node.getName())) {
+            // 자식의 parentName 만 바뀌므로 자식 노드만 새로 생성 (손자 이하는 공유)
+            for (int k = childStarts[index]; k < childStarts[index + 1]; k++) {
+                int child = childIndexes[k];
+                patched[child] = patched[child].toBuilder().parentName(node.getName()).build();
+            }
+        }
+
+        if (Objects.equals(previous.getParentId(), parentId) && SIBLING_ORDER.compare(previous, node) == 0) {
+            return new CategoryTreeSnapshot(newVersion, this, patched, patchCodes(index, previous, node),
+                    contentHash - nodeHash(previous) + nodeHash(node)).inheritIndexes(this, previous, node);
+        }
+        return build(newVersion, Arrays.asList(patched), null, createdAt);
+    }
+
+    /**
+     * 이미 있는 카테고리의 부모나 형제 순서가 바뀌는 변경인지 (하위 트리 이동 - 전체 배열 재구성 필요)
+     */
+    public boolean isMove(CategoryDto category) {
+        int index = indexOf(category.getId());
+        if (index == NOT_FOUND) {
+            return false;
+        }
+        CategoryDto previous = nodes[index];
+        return !Objects.equals(previous.getParentId(), category.getParentId())
+                || SIBLING_ORDER.compare(previous, category) != 0;
+    }
+
+    /**
+     * 새 리프 노드를 형제 순서 위치에 끼워 넣은 스냅샷 - 노드는 공유하고 배열만 복사/이동
+     * 앞쪽 노드의 하위 범위는 조상만 1 늘어나고, 뒤쪽 노드는 인덱스가 1씩 밀림
+     */
+    private CategoryTreeSnapshot withLeafInserted(long newVersion, int parent, CategoryDto node) {
+        int size = nodes.length;
+        int position = parent != NOT_FOUND ? subtreeEnds[parent] : size;
+        int siblingCount = parent != NOT_FOUND ? childCount(parent) : rootIndexes.length;
+        for (int k = 0; k < siblingCount; k++) {
+            int sibling = parent != NOT_FOUND ? child(parent, k) : rootIndexes[k];
+            if (SIBLING_ORDER.compare(node, nodes[sibling]) < 0) {
+                position = sibling;
+                break;
+            }
+        }
+
+        CategoryDto[] newNodes = new CategoryDto[size + 1];
+        int[] newParents = new int[size + 1];
+        int[] newDepths = new int[size + 1];
+        int[] newEnds = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            int target = i < position ? i : i + 1;
+            int parentIndex = parentIndexes[i];
+            newNodes[target] = nodes[i];
+            newParents[target] = parentIndex != NOT_FOUND && parentIndex >= position ? parentIndex + 1 : parentIndex;
+            newDepths[target] = depths[i];
+            // 앞쪽 노드는 새 노드의 조상일 때만 범위가 늘어남 (조상이 아니면 범위가 position 이전에 끝남)
+            boolean ancestor = parent != NOT_FOUND && i <= parent && parent < subtreeEnds[i];
+            newEnds[target] = i >= position || ancestor ? subtreeEnds[i] + 1 : subtreeEnds[i];
+        }
+        newNodes[position] = node;
+        newParents[position] = parent;
+        newDepths[position] = parent != NOT_FOUND ? depths[parent] + 1 : 0;
+        newEnds[position] = position + 1;
+
+        return of(newVersion, createdAt, newNodes, newParents, newDepths, newEnds, contentHash + nodeHash(node));
+    }
+
+    /**
+     * 카테고리와 전체 하위 트리를 제거한 새 스냅샷 (copy-on-write, 남은 노드 객체는 공유)
+     * - 제거 구간 [index, subtreeEnd) 을 뺀 배열 복사 - 조상의 하위 범위와 뒤쪽 인덱스만 구간 크기만큼 줄어듦 (O(n))
+     * - 스냅샷에 없는 카테고리면 같은 내용의 새 버전
+     */
+    public CategoryTreeSnapshot withRemoval(long newVersion, long id) {
+        int index = indexOf(id);
+        if (index == NOT_FOUND) {
+            return new CategoryTreeSnapshot(newVersion, this, nodes, indexByCode, contentHash)
+                    .inheritIndexes(this, null, null);
+        }
+
+        int end = subtreeEnds[index];
+        int removed = end - index;
+        int size = nodes.length - removed;
+        long hash = contentHash;
+        for (int i = index; i < end; i++) {
+            hash -= nodeHash(nodes[i]);
+        }
+
+        CategoryDto[] newNodes = new CategoryDto[size];
+        int[] newParents = new int[size];
+        int[] newDepths = new int[size];
+        int[] newEnds = new int[size];
+        for (int i = 0, target = 0; i < nodes.length; i++) {
+            if (i == index) {
+                i = end - 1;
+                continue;
+            }
+            int parentIndex = parentIndexes[i];
+            newNodes[target] = nodes[i];
+            newParents[target] = parentIndex != NOT_FOUND && parentIndex >= end ? parentIndex - removed : parentIndex;
+            newDepths[target] = depths[i];
+            // 앞쪽 노드는 제거 구간을 포함하는 조상일 때만 범위가 줄어듦
+            newEnds[target] = i >= end || subtreeEnds[i] >= end ? subtreeEnds[i] - removed : subtreeEnds[i];
+            target++;
+        }
+
+        return of(newVersion, createdAt, newNodes, newParents, newDepths, newEnds, hash);
+    }
+
+    /**
+     * 구조가 같은 스냅샷에 이전 스냅샷의 색인 중 바뀐 노드의 색인 대상 필드와 무관한 것을 공유
+     * - 검색: name, storeTitle, groupTitle / 자동완성: name, code, displayOrder(순위) / 오타 허용: name
+     * - previous, node 가 null 이면 내용 변경 없음 (모두 공유)
+     */
+    private CategoryTreeSnapshot inheritIndexes(CategoryTreeSnapshot base, CategoryDto previous, CategoryDto node) {
+        boolean sameName = previous == null || Objects.equals(previous.getName(), node.getName());
+        if (sameName && (previous == null || Objects.equals(previous.getStoreTitle(), node.getStoreTitle())
+                && Objects.equals(previous.getGroupTitle(), node.getGroupTitle()))) {
+            searchIndex = base.searchIndex;
+        }
+        if (sameName && (previous == null || Objects.equals(previous.getCode(), node.getCode())
+                && Objects.equals(previous.getDisplayOrder(), node.getDisplayOrder()))) {
+            prefixIndex = base.prefixIndex;
+        }
+        if (sameName) {
+            fuzzyIndex = base.fuzzyIndex;
+        }
+        return this;
+    }
+
+    private Map<String, Integer> patchCodes(int index, CategoryDto previous, CategoryDto node) {
+        if (Objects.equals(previous.getCode(), node.getCode())) {
+            return indexByCode;
+        }
+        Map<String, Integer> codes = new HashMap<>(indexByCode);
+        if (previous.getCode() != null) {
+            codes.remove(previous.getCode(), index);
+        }
+        if (node.getCode() != null) {
+            codes.put(node.getCode(), index);
+        }
+        return codes;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * 트리 내용 해시 - 버전과 달리 내용이 같으면 모든 인스턴스에서 같은 값
+     * 구조(부모, 형제 순서)는 노드의 parentId, displayOrder 로 결정되므로 노드 해시의 합으로 트리 전체를 구분
+     */
+    public long contentHash() {
+        return contentHash;
+    }
+
+    /**
+     * 응답에 노출되는 노드 필드의 해시 - 인스턴스와 무관하게 같은 값 (enum 은 이름으로)
+     * parentName, 하위 여부는 다른 노드에서 파생되므로 제외
+     */
+    private static long nodeHash(CategoryDto node) {
+        long h = node.getId();
+        h = 31 * h + Objects.hashCode(node.getParentId());
+        h = 31 * h + Objects.hashCode(node.getName());
+        h = 31 * h + Objects.hashCode(node.getDescription());
+        h = 31 * h + Objects.hashCode(node.getCode());
+        h = 31 * h + Objects.hashCode(node.getStoreCode());
+        h = 31 * h + Objects.hashCode(node.getStoreTitle());
+        h = 31 * h + Objects.hashCode(node.getGroupTitle());
+        h = 31 * h + Objects.hashCode(node.getDisplayOrder());
+        h = 31 * h + (node.getGenderFilter() != null ? node.getGenderFilter().name().hashCode() : 0);
+        h = 31 * h + Objects.hashCode(node.getCreatedAt());
+        h = 31 * h + Objects.hashCode(node.getUpdatedAt());
+        // 합산해도 노드 간 상쇄되지 않도록 비트 확산 (splitmix64)
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    public boolean isEmpty() {
+        return nodes.length == 0;
+    }
+
+    public int indexOf(long id) {
+        if (indexById != null) {
+            long offset = id - minId;
+            if (offset < 0 || offset >= indexById.length) {
+                return NOT_FOUND;
+            }
+            return indexById[(int) offset];
+        }
+        int found = Arrays.binarySearch(sortedIds, id);
+        return found >= 0 ? sortedIdIndexes[found] : NOT_FOUND;
+    }
+
+    public int indexOfCode(String code) {
+        Integer index = indexByCode.get(code);
+        return index != null ? index : NOT_FOUND;
+    }
+
+    public boolean contains(long id) {
+        return indexOf(id) != NOT_FOUND;
+    }
+
+    public CategoryDto node(int index) {
+        return nodes[index];
+    }
+
+    public long id(int index) {
+        return ids[index];
+    }
+
+    public int parentIndex(int index) {
+        return parentIndexes[index];
+    }
+
+    public int depth(int index) {
+        return depths[index];
+    }
+
+    public int subtreeEnd(int index) {
+        return subtreeEnds[index];
+    }
+
+    public int childCount(int index) {
+        return childStarts[index + 1] - childStarts[index];
+    }
+
+    public int child(int index, int position) {
+        return childIndexes[childStarts[index] + position];
+    }
+
+    /**
+     * 루트부터 노드까지 경로의 position 번째 노드 (0: 루트, depth(index): 자신)
+     */
+    public int pathNode(int index, int position) {
+        return pathIndexes[pathStarts[index] + position];
+    }
+
+    /**
+     * index 가 ancestor 의 하위 노드인지 (자신 제외) - 전위 순서 구간 포함 여부로 O(1) 판단
+     */
+    public boolean isDescendant(int index, int ancestor) {
+        return index > ancestor && index < subtreeEnds[ancestor];
+    }
+
+    /**
+     * 하위 카테고리 id (자신 제외, 오름차순) - 전위 순서 구간의 id 를 호출마다 정렬 O(k log k)
+     * 결과를 스냅샷에 보관하지 않음 - 패치된 스냅샷끼리 공유되면 요청된 구간만큼 계속 커짐
+     *
+     * @param leafOnly 하위가 없는 카테고리만
+     */
+    public long[] descendantIds(int index, boolean leafOnly) {
+        int end = subtreeEnds[index];
+        long[] result = new long[end - index - 1];
+        int size = 0;
+        for (int i = index + 1; i < end; i++) {
+            if (!leafOnly || subtreeEnds[i] == i + 1) {
+                result[size++] = ids[i];
+            }
+        }
+        result = Arrays.copyOf(result, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    public int rootCount() {
+        return rootIndexes.length;
+    }
+
+    public int root(int position) {
+        return rootIndexes[position];
+    }
+
+    public CategorySearchIndex searchIndex() {
+        CategorySearchIndex index = searchIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = searchIndex;
+                if (index == null) {
+                    index = CategorySearchIndex.build(this);
+                    searchIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    public CategoryPrefixIndex prefixIndex() {
+        CategoryPrefixIndex index = prefixIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = prefixIndex;
+                if (index == null) {
+                    index = CategoryPrefixIndex.build(this);
+                    prefixIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    public CategoryFuzzyIndex fuzzyIndex() {
+        CategoryFuzzyIndex index = fuzzyIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = fuzzyIndex;
+                if (index == null) {
+                    index = CategoryFuzzyIndex.build(this);
+                    fuzzyIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 단일 노드 응답 (하위 미포함)
+     */
+    public CategoryResponse toResponse(int index) {
+        CategoryResponse response = CategoryResponse.convertToResponse(nodes[index]);
+        response.setLeaf(childCount(index) == 0);
+        return response;
+    }
+
+    /**
+     * 루트부터 노드까지의 경로 응답 (하위 미포함) - 비용은 O(깊이)
+     */
+    public List<CategoryResponse> toPathResponse(int index) {
+        int length = depths[index] + 1;
+        List<CategoryResponse> path = new ArrayList<>(length);
+        for (int k = 0; k < length; k++) {
+            path.add(toResponse(pathNode(index, k)));
+        }
+        return path;
+    }
+
+    /**
+     * 노드와 전체 하위 트리 응답 - 비용은 O(서브트리 크기)
+     */
+    public CategoryResponse toResponseTree(int index) {
+        CategoryResponse response = toResponse(index);
+        int count = childCount(index);
+        if (count > 0) {
+            List<CategoryResponse> children = new ArrayList<>(count);
+            for (int k = 0; k < count; k++) {
+                children.add(toResponseTree(child(index, k)));
+            }
+            response.setChildren(children);
+        }
+        return response;
+    }
+
+    public List<CategoryResponse> toResponseTree() {
+        List<CategoryResponse> roots = new ArrayList<>(rootIndexes.length);
+        for (int root : rootIndexes) {
+            roots.add(toResponseTree(root));
+        }
+        return roots;
+    }
+
+    /**
+     * 검색 결과 트리 - 일치 노드와 그 조상만 포함 (일치 노드의 나머지 하위는 제외)
+     * 비용은 O(일치 수 x 깊이), 전체 트리를 방문하지 않음
+     *
+     * @param matches 일치 노드 인덱스 (오름차순)
+     * @param scope   이 노드 아래로 결과를 제한 (NOT_FOUND 이면 전체 트리)
+     * @return 결과 트리의 최상위 노드 목록 (scope 지정 시 최대 1개)
+     */
+    public List<CategoryResponse> toMatchedResponseTree(int[] matches, int scope) {
+        if (matches.length == 0) {
+            return Collections.emptyList();
+        }
+
+        // 1) 일치 노드와 조상 표시 - 이미 표시된 조상을 만나면 중단
+        Map<Integer, CategoryResponse> included = new HashMap<>();
+        for (int match : matches) {
+            for (int i = match; i != NOT_FOUND && !included.containsKey(i); i = parentIndexes[i]) {
+                included.put(i, null);
+                if (i == scope) {
+                    break;
+                }
+            }
+        }
+
+        // 2) 전위 순서로 응답 구성 - 부모가 항상 자식보다 먼저 처리되어 형제 순서가 유지됨
+        int[] order = included.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        List<CategoryResponse> roots = new ArrayList<>();
+        for (int i : order) {
+            CategoryResponse response = toResponse(i);
+            response.setLeaf(true);
+            included.put(i, response);
+
+            CategoryResponse parent = i == scope ? null : included.get(parentIndexes[i]);
+            if (parent == null) {
+                roots.add(response);
+            } else {
+                if (parent.getChildren() == null) {
+                    parent.setChildren(new ArrayList<>());
+                }
+                parent.getChildren().add(response);
+                parent.setLeaf(false);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * 중첩 CategoryDto 트리 - Redis 트리 캐시 저장 형식
+     */
+    public CategoryDto toDtoTree(int index) {
+        int count = childCount(index);
+        List<CategoryDto> children = null;
+        if (count > 0) {
+            children = new ArrayList<>(count);
+            for (int k = 0; k < count; k++) {
+                children.add(toDtoTree(child(index, k)));
+            }
+        }
+        return nodes[index].toBuilder().children(children).build();
+    }
+
+    public List<CategoryDto> toDtoTree() {
+        List<CategoryDto> roots = new ArrayList<>(rootIndexes.length);
+        for (int root : rootIndexes) {
+            roots.add(toDtoTree(root));
+        }
+        return roots;
+    }
+
+    public List<CategoryDto> childDtoTrees(int index) {
+        int count = childCount(index);
+        List<CategoryDto> children = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            children.add(toDtoTree(child(index, k)));
+        }
+        return children;
+    }
+}
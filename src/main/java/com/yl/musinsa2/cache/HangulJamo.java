@@ -0,0 +1,116 @@
+package com.yl.musinsa2.cache;
+
+/**
+ * 한글 자모 분해 유틸리티
+ * - chosung: 음절을 초성으로 변환 ("티셔츠" -> "ㅌㅅㅊ")
+ * - decompose: 음절을 호환 자모열로 분해, 겹모음/겹받침은 구성 자모로 분해 ("셔츠" -> "ㅅㅕㅊㅡ", "닭" -> "ㄷㅏㄹㄱ")
+ *   입력 중인 음절("티셔" -> "ㅌㅣㅅㅕ")도 완성된 이름의 자모열에 포함되므로 부분 음절 검색에 사용
+ * - decomposeSyllables: 음절마다 경계 문자를 붙인 자모열 - 검색 색인용 ("신발" -> "ㅅㅣㄴ|ㅂㅏㄹ|", | 는 경계 문자)
+ *   검색어는 마지막 음절(입력 중)에만 경계를 붙이지 않으므로 앞 음절은 음절 단위로 정확히 일치해야 함
+ *   ("신발"은 "신바람"과, "신"은 "시나"와 일치하지 않음)
+ * - 한글이 아닌 문자는 소문자로 변환하여 그대로 유지
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_BOUNDARY = '\u0001';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모 (호환 자모) -> 구성 자모
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulJamo() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    public static boolean isChosung(char c) {
+        return CHOSUNG.indexOf(c) >= 0;
+    }
+
+    /**
+     * 초성만으로 이루어진 입력인지 (공백 허용, 초성 1개 이상)
+     */
+    public static boolean isChosungOnly(String text) {
+        boolean hasChosung = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isChosung(c)) {
+                hasChosung = true;
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return hasChosung;
+    }
+
+    public static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                builder.append(CHOSUNG.charAt((c - SYLLABLE_BEGIN) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)));
+            } else {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    public static String decompose(String text) {
+        return decompose(text, false, false);
+    }
+
+    /**
+     * 음절 경계를 포함한 자모열
+     *
+     * @param inProgress 검색어 - 마지막 글자가 음절이면 입력 중으로 보고 경계를 붙이지 않음 (자모 접두어 일치)
+     */
+    public static String decomposeSyllables(String text, boolean inProgress) {
+        return decompose(text, true, inProgress);
+    }
+
+    private static String decompose(String text, boolean boundaries, boolean inProgress) {
+        StringBuilder builder = new StringBuilder(text.length() * (boundaries ? 4 : 3));
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                builder.append(CHOSUNG.charAt(offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT)))
+                        .append(JUNGSUNG[offset % (JUNGSUNG_COUNT * JONGSUNG_COUNT) / JONGSUNG_COUNT])
+                        .append(JONGSUNG[offset % JONGSUNG_COUNT]);
+                if (boundaries && !(inProgress && i == text.length() - 1)) {
+                    builder.append(SYLLABLE_BOUNDARY);
+                }
+            } else {
+                int compound = COMPOUND_JAMO.indexOf(c);
+                if (compound >= 0) {
+                    builder.append(COMPOUND_PARTS[compound]);
+                } else {
+                    builder.append(Character.toLowerCase(c));
+                }
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,27 @@
+package com.yl.musinsa2.cache;
+
+import java.util.Arrays;
+
+/**
+ * 색인 생성/검색용 int 가변 배열 (박싱 없음)
+ */
+final class IntList {
+
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
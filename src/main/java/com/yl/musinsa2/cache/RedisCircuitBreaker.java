@@ -0,0 +1,186 @@
+package com.yl.musinsa2.cache;
+
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Redis 회로 차단기 - Redis 가 느리거나 응답하지 않을 때 호출마다 타임아웃(spring.data.redis.timeout)까지 기다리지 않도록 함
+ * - CLOSED: 최근 호출(sliding-window-size)의 실패 비율이 임계치 이상이면 OPEN (느린 호출도 실패로 집계)
+ * - OPEN: 호출 즉시 CircuitOpenException - 호출 측은 기존 예외 처리 경로로 L1 마지막 트리 등을 사용
+ * - HALF_OPEN: open-duration 마다 백그라운드에서 PING 으로 확인, 성공하면 CLOSED (요청 스레드는 확인에 참여하지 않음)
+ * - category.redis.circuit.state{state=closed|open|half_open} (현재 상태 1), category.redis.circuit.rejected 지표
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 회로가 열려 Redis 를 호출하지 않음 - 빈번하게 발생하므로 스택 트레이스를 만들지 않음
+     */
+    public static class CircuitOpenException extends RuntimeException {
+
+        public CircuitOpenException() {
+            super("Redis 회로 열림 - 호출 생략", null, false, false);
+        }
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CategoryCacheProperties.CircuitBreaker properties;
+    private final Counter rejectedCounter;
+
+    private volatile State state = State.CLOSED;
+
+    // 최근 호출 결과 (true: 실패) - CLOSED 상태에서만 기록
+    private final boolean[] outcomes;
+    private int position;
+    private int recorded;
+    private int failures;
+
+    // 복구 확인 (half-open) - 한 번에 하나만 실행
+    private final ScheduledExecutorService prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-circuit-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisCircuitBreaker(StringRedisTemplate stringRedisTemplate, CategoryCacheProperties cacheProperties,
+                               MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = cacheProperties.getCircuitBreaker();
+        this.outcomes = new boolean[properties.getSlidingWindowSize()];
+
+        for (State candidate : State.values()) {
+            Gauge.builder("category.redis.circuit.state", this, breaker -> breaker.state == candidate ? 1 : 0)
+                    .description("Redis 회로 차단기 상태 (현재 상태만 1)")
+                    .tag("state", candidate.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        this.rejectedCounter = Counter.builder("category.redis.circuit.rejected")
+                .description("회로가 열려 생략한 Redis 호출")
+                .register(meterRegistry);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    /**
+     * Redis 호출 - 회로가 열려 있으면 호출하지 않고 CircuitOpenException
+     * 호출 예외는 실패로 집계한 뒤 그대로 전파 (호출 측의 기존 예외 처리 유지)
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (state != State.CLOSED) {
+            rejectedCounter.increment();
+            throw new CircuitOpenException();
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            record(System.nanoTime() - start > properties.getSlowCallDuration().toNanos());
+            return result;
+        } catch (RuntimeException e) {
+            record(true);
+            throw e;
+        }
+    }
+
+    public void run(Runnable call) {
+        execute(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private synchronized void record(boolean failure) {
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        if (recorded == outcomes.length) {
+            if (outcomes[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % outcomes.length;
+
+        if (recorded >= properties.getMinimumCalls()
+                && failures * 100 >= properties.getFailureRateThreshold() * recorded) {
+            open(failures + "/" + recorded + " 실패");
+        }
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        log.warn("Redis 회로 열림: {} - {}ms 후 복구 확인", reason, properties.getOpenDuration().toMillis());
+        scheduleProbe();
+    }
+
+    private void scheduleProbe() {
+        try {
+            prober.schedule(this::probe, properties.getOpenDuration().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    /**
+     * 복구 확인 - PING 이 느린 호출 기준 이내에 성공하면 CLOSED, 아니면 다시 OPEN
+     */
+    private void probe() {
+        state = State.HALF_OPEN;
+        long start = System.nanoTime();
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+            if (System.nanoTime() - start <= properties.getSlowCallDuration().toNanos()) {
+                close();
+                return;
+            }
+        } catch (Exception e) {
+            log.debug("Redis 복구 확인 실패: error={}", e.getMessage());
+        }
+        state = State.OPEN;
+        scheduleProbe();
+    }
+
+    private synchronized void close() {
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        state = State.CLOSED;
+        log.info("Redis 회로 닫힘 - 복구 확인 성공");
+    }
+
+    @PreDestroy
+    public void shutdownProber() {
+        prober.shutdownNow();
+    }
+}
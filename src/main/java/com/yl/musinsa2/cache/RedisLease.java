@@ -0,0 +1,75 @@
+package com.yl.musinsa2.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 기반 임대(lease) - 여러 인스턴스 중 하나만 작업을 수행하도록 보장
+ * - SET NX PX 로 획득, 토큰이 일치할 때만 삭제하는 Lua 스크립트로 반납
+ * - 보유 인스턴스가 비정상 종료해도 TTL 경과 후 자동 해제
+ * - 반납도 회로 차단기를 거침 - 회로가 열려 있으면 반납을 생략하고 TTL 경과 후 해제 (획득은 호출 측에서 감쌈)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLease {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /**
+     * 임대 획득 시도
+     *
+     * @return 획득한 임대, 다른 인스턴스가 보유 중이면 null
+     */
+    public Lease tryAcquire(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+
+        if (Boolean.TRUE.equals(acquired)) {
+            log.debug("임대 획득: key={}", key);
+            return new Lease(key, token);
+        }
+        return null;
+    }
+
+    public boolean isHeld(String key) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+    }
+
+    public class Lease implements AutoCloseable {
+
+        private final String key;
+        private final String token;
+
+        private Lease(String key, String token) {
+            this.key = key;
+            this.token = token;
+        }
+
+        @Override
+        public void close() {
+            try {
+                circuitBreaker.run(() -> stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token));
+                log.debug("임대 반납: key={}", key);
+            } catch (RedisCircuitBreaker.CircuitOpenException e) {
+                log.debug("Redis 회로 열림 - 임대 반납 생략: key={}", key);
+            } catch (Exception e) {
+                // 반납 실패 시에도 TTL 경과 후 해제됨
+                log.warn("임대 반납 실패: key={}, error={}", key, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.yl.musinsa2.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 카테고리 캐시 설정 (category.cache.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "category.cache")
+public class CategoryCacheProperties {
+
+    private final Local local = new Local();
+
+    private final Rebuild rebuild = new Rebuild();
+
+    private final Refresh refresh = new Refresh();
+
+    private final Bulk bulk = new Bulk();
+
+    private final Render render = new Render();
+
+    private final Codec codec = new Codec();
+
+    private final Invalidation invalidation = new Invalidation();
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * L1 (애플리케이션 메모리) 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class Local {
+
+        // 개별 카테고리 최대 보관 개수
+        private long maximumSize = 10_000;
+
+        // 트리 스냅샷 갱신 시점 - 경과 후 첫 조회는 기존 스냅샷으로 응답하고 백그라운드에서 갱신
+        private Duration refreshAfter = Duration.ofSeconds(30);
+
+        // 보관 시간 - 이전 버전으로 응답할 수 있는 최대 지연 (stale 상한)
+        private Duration ttl = Duration.ofMinutes(1);
+    }
+
+    /**
+     * 트리 재구성 설정 (캐시 미스 시 DB 로딩)
+     */
+    @Getter
+    @Setter
+    public static class Rebuild {
+
+        // 인스턴스 간 재구성 임대 유지 시간 - 재구성 최대 소요 시간보다 길게 설정
+        private Duration leaseTtl = Duration.ofSeconds(10);
+
+        // 진행 중인 재구성 결과를 기다리는 최대 시간
+        private Duration waitTimeout = Duration.ofSeconds(3);
+
+        // 다른 인스턴스의 재구성 결과(Redis 트리) 확인 주기
+        private Duration pollInterval = Duration.ofMillis(100);
+
+        // 임대 없이(Redis 장애, 대기 시간 초과) 인스턴스 단독으로 DB 재구성하는 최소 간격
+        // 그 사이에는 마지막 트리로 응답 - refresh-after 보다 길어야 장애 중 DB 부하가 줄어듦
+        private Duration unleasedInterval = Duration.ofMinutes(2);
+    }
+
+    /**
+     * 선제 갱신 설정 (refresh-ahead)
+     */
+    @Getter
+    @Setter
+    public static class Refresh {
+
+        private boolean enabled = true;
+
+        // 갱신 필요 여부 확인 주기 (@Scheduled 에서 사용하므로 ISO-8601 형식)
+        private Duration checkInterval = Duration.ofSeconds(10);
+
+        // Redis 트리의 남은 TTL이 이 값보다 작으면 만료 전에 재구성
+        private Duration ahead = Duration.ofMinutes(5);
+    }
+
+    /**
+     * Redis 일괄 작업 설정 (워밍업 저장, 전체 삭제)
+     */
+    @Getter
+    @Setter
+    public static class Bulk {
+
+        // 파이프라인 1회 전송 / SCAN 1회 조회 / UNLINK 1회 삭제 키 개수
+        private int batchSize = 500;
+    }
+
+    /**
+     * 트리/하위 트리 JSON 렌더링 결과 보관 설정
+     */
+    @Getter
+    @Setter
+    public static class Render {
+
+        // 하위 트리 렌더링 결과(JSON + gzip) 전체 크기 상한
+        private DataSize subtreeMaximumWeight = DataSize.ofMegabytes(16);
+    }
+
+    /**
+     * Redis 값 형식 설정
+     */
+    @Getter
+    @Setter
+    public static class Codec {
+
+        // 저장 형식 - 읽기는 두 형식 모두 지원
+        // 이전 버전(JSON 만 읽음)과 함께 실행될 수 있으므로 기본은 JSON, 전체 교체 후 설정으로 BINARY 전환
+        private Format format = Format.JSON;
+
+        public enum Format {
+            BINARY,
+            JSON
+        }
+    }
+
+    /**
+     * 인스턴스 간 변경 전파 설정 (Redis Pub/Sub)
+     */
+    @Getter
+    @Setter
+    public static class Invalidation {
+
+        private boolean enabled = true;
+
+        // 변경 이벤트 채널
+        private String channel = "category:changes";
+
+        // 발행 인스턴스별 마지막 수신 순번 보관 시간 (마지막 수신 기준) - 종료된 인스턴스 항목 정리
+        // 만료 후 첫 메시지는 누락 확인 없이 반영 (그 이전 누락은 L1 보관 시간(local.ttl) 안에 이미 복구됨)
+        private Duration originRetention = Duration.ofHours(1);
+
+        // 순번을 보관할 최대 발행 인스턴스 수
+        private long maximumOrigins = 1_000;
+    }
+
+    /**
+     * Redis 회로 차단기 설정 (RedisCircuitBreaker)
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        // 실패 비율을 계산할 최근 호출 개수
+        private int slidingWindowSize = 20;
+
+        // 실패 비율을 판단하기 위한 최소 호출 개수
+        private int minimumCalls = 10;
+
+        // 회로를 여는 실패 비율 (%)
+        private int failureRateThreshold = 50;
+
+        // 이 시간보다 오래 걸린 호출은 실패로 집계
+        private Duration slowCallDuration = Duration.ofMillis(500);
+
+        // 회로가 열린 뒤 복구 확인(PING)까지의 간격
+        private Duration openDuration = Duration.ofSeconds(5);
+    }
+}
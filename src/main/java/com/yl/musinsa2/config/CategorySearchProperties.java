@@ -0,0 +1,48 @@
+package com.yl.musinsa2.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 카테고리 검색 설정 (category.search.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "category.search")
+public class CategorySearchProperties {
+
+    private final Fuzzy fuzzy = new Fuzzy();
+
+    private final ResultCache resultCache = new ResultCache();
+
+    /**
+     * 오타 허용 검색 설정 (?fuzzy=1)
+     */
+    @Getter
+    @Setter
+    public static class Fuzzy {
+
+        // 허용 편집 거리 (자모 단위, "스니커스" -> "스니커즈" 는 1)
+        private int maxDistance = 2;
+
+        // 검색 시간 예산 - 초과하면 그때까지 찾은 결과로 응답
+        private Duration budget = Duration.ofMillis(50);
+    }
+
+    /**
+     * 검색 결과 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class ResultCache {
+
+        private boolean enabled = true;
+
+        // 결과 트리 예상 메모리 크기 합계 상한
+        private DataSize maximumWeight = DataSize.ofMegabytes(32);
+    }
+}
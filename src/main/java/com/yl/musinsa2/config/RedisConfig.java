@@ -3,6 +3,8 @@ package com.yl.musinsa2.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yl.musinsa2.service.CategoryChangeBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -11,9 +13,13 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
 
@@ -39,40 +45,60 @@ public class RedisConfig {
         return template;
     }
 
-    // 개별 카테고리용 RedisTemplate
+    // 개별 카테고리용 RedisTemplate - 값은 CategoryCacheCodec 으로 변환한 바이트 그대로 저장
     @Bean("categoryRedisTemplate")
-    public RedisTemplate<String, Object> categoryRedisTemplate(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
+    public RedisTemplate<String, byte[]> categoryRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
         
-        // 타입 정보 포함한 직렬화
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-        template.setValueSerializer(serializer);
-        template.setHashValueSerializer(serializer);
+        // 타입 정보/필드명 없는 바이너리 값 (형식 버전은 값 헤더에 포함)
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
         
         template.afterPropertiesSet();
         return template;
     }
     
-    // 트리용 RedisTemplate
+    // 트리용 RedisTemplate - 값은 CategoryCacheCodec 으로 변환한 바이트 그대로 저장
     @Bean("treeRedisTemplate")
-    public RedisTemplate<String, Object> treeRedisTemplate(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
+    public RedisTemplate<String, byte[]> treeRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         
         template.setKeySerializer(new StringRedisSerializer());
         
-        // 타입 정보 포함한 직렬화 - 복잡한 객체도 안전하게 처리
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-        template.setValueSerializer(serializer);
+        template.setValueSerializer(RedisSerializer.byteArray());
         
         template.afterPropertiesSet();
         return template;
     }
 
+    /**
+     * 카테고리 변경 전파 구독 (CategoryChangeBus)
+     * 순번 누락 감지가 수신 순서에 의존하므로 메시지는 단일 스레드에서 수신 순서대로 처리
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "category.cache.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer categoryChangeListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         CategoryChangeBus changeBus,
+                                                                         CategoryCacheProperties cacheProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setDaemon(true);
+        executor.setThreadNamePrefix("category-change-");
+        executor.initialize();
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(executor);
+        container.addMessageListener(changeBus, new ChannelTopic(cacheProperties.getInvalidation().getChannel()));
+        return container;
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
@@ -1,17 +1,28 @@
 package com.yl.musinsa2.controller;
 
+import com.yl.musinsa2.dto.CategoryAutocompleteResponse;
+import com.yl.musinsa2.dto.CategoryBatchRequest;
 import com.yl.musinsa2.dto.CategoryCreateRequest;
+import com.yl.musinsa2.dto.CategoryDescendantsResponse;
 import com.yl.musinsa2.dto.CategoryResponse;
 import com.yl.musinsa2.dto.CategoryUpdateRequest;
 import com.yl.musinsa2.service.CategoryService;
+import com.yl.musinsa2.service.CategoryTreeRenderer;
+import com.yl.musinsa2.service.ETagged;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,12 +30,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -34,24 +49,63 @@ import java.util.concurrent.TimeUnit;
 @Tag(name = "카테고리 관리")
 public class CategoryController {
 
+    // 트리 기반 조회 응답 캐시 - 30분, 만료 후에는 ETag 로 재검증
+    private static final CacheControl TREE_CACHE_CONTROL = CacheControl.maxAge(30, TimeUnit.MINUTES)
+            .cachePublic()
+            .mustRevalidate();
+
     private final CategoryService categoryService;
 
     @Operation(summary = "카테고리 트리 구조 조회")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = CategoryResponse.class))))
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getCategoryTree() {
-        List<CategoryResponse> categoryTree = categoryService.getCategoryTree();
-
-        return ResponseEntity.ok()
-                .cacheControl(CacheControl.maxAge(30, TimeUnit.MINUTES)
-                        .cachePublic()
-                        .mustRevalidate())
-                .body(categoryTree);
+    public void getCategoryTree(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                WebRequest request, HttpServletResponse response) throws IOException {
+        writeJson(categoryService.getCategoryTreeJson(), acceptEncoding, TREE_CACHE_CONTROL, request, response);
     }
 
     @Operation(summary = "특정 카테고리 조회 하위 정보 포함")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = CategoryResponse.class)))
     @GetMapping("/{id}")
-    public CategoryResponse getCategoryById(@PathVariable Long id) {
-        return categoryService.getCategoryById(id);
+    public void getCategoryById(@PathVariable Long id,
+                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                WebRequest request, HttpServletResponse response) throws IOException {
+        writeJson(categoryService.getCategoryJson(id), acceptEncoding, CacheControl.empty(), request, response);
+    }
+
+    @Operation(summary = "카테고리 경로 조회 (루트부터 카테고리까지, 브레드크럼)")
+    @GetMapping("/{id}/path")
+    public ResponseEntity<List<CategoryResponse>> getCategoryPath(@PathVariable Long id, WebRequest request) {
+        return conditional(request, categoryService.getCategoryPathWithETag(id), TREE_CACHE_CONTROL);
+    }
+
+    @Operation(summary = "하위 카테고리 ID 조회 (오름차순, 선택적으로 리프만/차분 인코딩)")
+    @GetMapping("/{id}/descendants")
+    public ResponseEntity<CategoryDescendantsResponse> getDescendantIds(@PathVariable Long id,
+                                                                        @RequestParam(defaultValue = "false") boolean leafOnly,
+                                                                        @RequestParam(defaultValue = "false") boolean delta,
+                                                                        WebRequest request) {
+        return conditional(request, categoryService.getDescendantIdsWithETag(id, leafOnly, delta), TREE_CACHE_CONTROL);
+    }
+
+    @Operation(summary = "하위 카테고리 여부 확인")
+    @GetMapping("/{id}/descendants/{descendantId}")
+    public boolean isDescendant(@PathVariable Long id, @PathVariable Long descendantId) {
+        return categoryService.isDescendant(id, descendantId);
+    }
+
+    @Operation(summary = "여러 카테고리 조회 (하위 미포함, 요청 순서)")
+    @GetMapping(params = "ids")
+    public List<CategoryResponse> getCategoriesByIds(@RequestParam List<Long> ids) {
+        return categoryService.getCategoriesByIds(ids);
+    }
+
+    @Operation(summary = "여러 카테고리 조회 (대량 요청용)")
+    @PostMapping("/batch")
+    public List<CategoryResponse> getCategoriesByIdsBatch(@Valid @RequestBody CategoryBatchRequest request) {
+        return categoryService.getCategoriesByIds(request.getIds());
     }
 
     @Operation(summary = "새 카테고리 생성")
@@ -77,26 +131,30 @@ public class CategoryController {
 
     @Operation(summary = "전체 카테고리 검색")
     @GetMapping("/search")
-    public List<CategoryResponse> searchCategoriesTree(@RequestParam(required = false) String name,
-                                                       HttpServletResponse response) {
-        // HTTP 캐시 설정
-        response.setHeader("Cache-Control", "max-age=1800, public, must-revalidate");
-        response.setHeader("Expires", String.valueOf(System.currentTimeMillis() + 1800000));
-
-        return categoryService.searchCategoriesTree(name);
+    public ResponseEntity<List<CategoryResponse>> searchCategoriesTree(@RequestParam(required = false) String name,
+                                                                       @RequestParam(defaultValue = "false") boolean fuzzy,
+                                                                       WebRequest request) {
+        return conditional(request, categoryService.searchCategoriesTreeWithETag(name, fuzzy), TREE_CACHE_CONTROL);
     }
 
     @Operation(summary = "특정 카테고리 하위 검색")
     @GetMapping("/search/{categoryId}")
     public ResponseEntity<CategoryResponse> searchCategorySubTree(@PathVariable Long categoryId,
-                                                                  @RequestParam(required = false) String name) {
-        CategoryResponse category = categoryService.searchCategorySubTree(categoryId, name);
+                                                                  @RequestParam(required = false) String name,
+                                                                  WebRequest request) {
+        return conditional(request, categoryService.searchCategorySubTreeWithETag(categoryId, name), TREE_CACHE_CONTROL);
+    }
+
+    @Operation(summary = "카테고리 자동완성")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<CategoryAutocompleteResponse>> autocomplete(@RequestParam(required = false) String q,
+                                                                           @RequestParam(defaultValue = "10") int limit) {
+        List<CategoryAutocompleteResponse> suggestions = categoryService.autocomplete(q, limit);
 
         return ResponseEntity.ok()
-                .cacheControl(CacheControl.maxAge(30, TimeUnit.MINUTES)
-                        .cachePublic()
-                        .mustRevalidate())
-                .body(category);
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.MINUTES)
+                        .cachePublic())
+                .body(suggestions);
     }
 
     @Operation(summary = "카테고리 캐시 수동 갱신")
@@ -104,4 +162,92 @@ public class CategoryController {
     public void refreshCategoryCache() {
         categoryService.refreshCache();
     }
+
+    /**
+     * 조건부 응답 - If-None-Match 가 ETag 와 일치하면 본문을 만들지 않고 304
+     */
+    private static <T> ResponseEntity<T> conditional(WebRequest request, ETagged<T> tagged, CacheControl cacheControl) {
+        String eTag = tagged.eTag();
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder.body(tagged.body().get());
+    }
+
+    /**
+     * 렌더링된 JSON 응답 - Accept-Encoding 에 맞는 본문(미리 압축된 gzip 또는 원본)을 그대로 출력 스트림에 기록
+     * - 요청마다 직렬화/압축하지 않고, 중간 버퍼로 복사하지 않음
+     * - 본문 종류마다 ETag 가 다르므로 If-None-Match 도 선택된 본문의 ETag 로 판단
+     */
+    private static void writeJson(CategoryTreeRenderer.RenderedJson json, String acceptEncoding, CacheControl cacheControl,
+                                  WebRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = json.gzip() != null && acceptsGzip(acceptEncoding);
+        byte[] body = gzip ? json.gzip() : json.json();
+        String eTag = gzip ? json.gzipETag() : json.eTag();
+
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String cacheControlValue = cacheControl.getHeaderValue();
+        if (cacheControlValue != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControlValue);
+        }
+        // 일치하면 304 상태와 ETag 헤더 설정
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (eTag != null) {
+            response.setHeader(HttpHeaders.ETAG, eTag);
+        }
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Accept-Encoding 에 gzip(또는 *)이 q > 0 으로 포함되어 있는지 여부
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+
+        Boolean wildcard = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = true;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        accepted = Double.parseDouble(param.substring(2).trim()) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
 }
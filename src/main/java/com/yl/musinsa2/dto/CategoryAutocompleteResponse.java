@@ -0,0 +1,38 @@
+package com.yl.musinsa2.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "카테고리 자동완성 응답 DTO")
+public class CategoryAutocompleteResponse {
+
+    @Schema(description = "카테고리 ID", example = "2")
+    private Long id;
+
+    @Schema(description = "카테고리 이름", example = "반소매 티셔츠")
+    private String name;
+
+    @Schema(description = "카테고리 코드", example = "TOP_SHORT")
+    private String code;
+
+    @Schema(description = "트리 깊이 (루트 0)", example = "1")
+    private int depth;
+
+    @Schema(description = "디스플레이 순서", example = "1")
+    private Integer displayOrder;
+
+    @Schema(description = "상위 카테고리 이름 경로 (루트부터 부모까지)", example = "[\"상의\"]")
+    private List<String> path;
+
+    @Schema(description = "상위 카테고리 ID 경로 (루트부터 부모까지)", example = "[1]")
+    private List<Long> pathIds;
+}
@@ -0,0 +1,28 @@
+package com.yl.musinsa2.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "여러 카테고리 조회 요청 DTO")
+public class CategoryBatchRequest {
+
+    @Schema(
+            description = "조회할 카테고리 ID 목록 (응답은 이 순서를 따름)",
+            example = "[1, 2, 3]",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotEmpty(message = "카테고리 ID 목록은 필수입니다")
+    @Size(max = 500, message = "한 번에 조회할 수 있는 카테고리는 최대 500개입니다")
+    private List<Long> ids;
+}
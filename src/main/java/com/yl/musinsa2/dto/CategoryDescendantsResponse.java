@@ -0,0 +1,30 @@
+package com.yl.musinsa2.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "하위 카테고리 ID 응답 DTO")
+public class CategoryDescendantsResponse {
+
+    @Schema(description = "기준 카테고리 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "하위가 없는 카테고리만 포함했는지 여부", example = "false")
+    private boolean leafOnly;
+
+    @Schema(description = "ids 가 차분 인코딩되었는지 여부 (첫 값은 그대로, 이후는 앞 값과의 차이)", example = "false")
+    private boolean delta;
+
+    @Schema(description = "하위 카테고리 수", example = "3")
+    private int count;
+
+    @Schema(description = "하위 카테고리 ID (기준 카테고리 제외, 오름차순)", example = "[2, 5, 9]")
+    private long[] ids;
+}
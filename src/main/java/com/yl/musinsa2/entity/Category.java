@@ -11,6 +11,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,6 +38,12 @@ import java.util.List;
 @SoftDelete(columnName = "deleted")
 public class Category extends BaseEntity {
 
+    // tree_path 컬럼 길이 (VARCHAR(255))
+    public static final int MAX_TREE_PATH_LENGTH = 255;
+
+    // id 최대 자릿수 - 저장 전에는 새 id 를 알 수 없으므로 경로 길이 확인에 사용
+    private static final int MAX_ID_LENGTH = String.valueOf(Long.MAX_VALUE).length();
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -71,6 +79,15 @@ public class Category extends BaseEntity {
     @Builder.Default
     private GenderFilter genderFilter = GenderFilter.ALL;
 
+    // 루트부터 자신까지의 id 경로 (예: /1/4/5/) - 하위 트리는 이 값으로 시작하는 범위 (idx_categories_tree_path)
+    @Column(name = "tree_path", length = MAX_TREE_PATH_LENGTH)
+    private String treePath;
+
+    // 트리 깊이 (루트 0)
+    @Column(name = "tree_depth", nullable = false)
+    @Builder.Default
+    private Integer treeDepth = 0;
+
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
     @Builder.Default
     private List<Category> children = new ArrayList<>();
@@ -96,6 +113,51 @@ public class Category extends BaseEntity {
         child.setParent(null);
     }
     
+    /**
+     * 트리 경로 부여 - IDENTITY 로 id 가 발급된 뒤 부모 경로에 자신의 id 를 붙임 (변경은 플러시 시 UPDATE)
+     * 부모 경로가 아직 없으면 (시작 시 보정 전 데이터) 부모 체인의 id 로 경로를 만듦
+     * 경로 길이는 CategoryService 가 저장 전에 확인 - 여기서는 다른 저장 경로를 위한 안전장치로만 다시 확인
+     */
+    @PostPersist
+    protected void assignTreePath() {
+        String path = expectedTreePath();
+        if (path.length() > MAX_TREE_PATH_LENGTH) {
+            throw new IllegalStateException("카테고리 트리가 너무 깊어 하위 카테고리를 추가할 수 없습니다. 부모 ID: "
+                    + parent.getId());
+        }
+        treePath = path;
+        // 부모 깊이는 보정 전이면 기본값(0)일 수 있으므로 경로의 구간 수로 계산
+        treeDepth = (int) path.chars().filter(ch -> ch == '/').count() - 2;
+    }
+
+    /**
+     * 부모 변경(이동) 거부 - 경로는 저장 시에만 부여되고 하위 트리 경로를 다시 쓰지 않으므로
+     * 이동을 허용하면 이 카테고리와 하위 카테고리의 tree_path 가 실제 부모와 어긋남
+     */
+    @PreUpdate
+    protected void verifyTreePath() {
+        if (treePath != null && !treePath.equals(expectedTreePath())) {
+            throw new IllegalStateException("카테고리의 부모는 변경할 수 없습니다. ID: " + id);
+        }
+    }
+
+    /**
+     * 하위 카테고리를 추가해도 경로가 컬럼 길이를 넘지 않는지 - 새 id 는 최대 자릿수로 계산
+     */
+    public boolean canAddChild() {
+        return currentTreePath().length() + MAX_ID_LENGTH + 1 <= MAX_TREE_PATH_LENGTH;
+    }
+
+    // 현재 부모 기준의 경로
+    private String expectedTreePath() {
+        return parent == null ? "/" + id + "/" : parent.currentTreePath() + id + "/";
+    }
+
+    // 저장된 경로, 없으면 부모 체인의 id 로 만든 경로
+    private String currentTreePath() {
+        return treePath != null ? treePath : expectedTreePath();
+    }
+
     public boolean isRoot() {
         return parent == null;
     }
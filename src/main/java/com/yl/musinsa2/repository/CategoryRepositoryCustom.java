@@ -1,4 +1,24 @@
 package com.yl.musinsa2.repository;
 
+import com.yl.musinsa2.dto.CategoryDto;
+
+import java.util.Collection;
+import java.util.List;
+
 public interface CategoryRepositoryCustom {
+
+    // 전체 카테고리를 평면 목록으로 조회 (엔티티/연관관계 로딩 없이 1회 조회)
+    List<CategoryDto> findAllFlat();
+
+    // 특정 카테고리와 모든 하위 카테고리를 평면 목록으로 조회 (tree_path 범위 1회 조회, 깊이 순)
+    List<CategoryDto> findSubtreeFlat(Long rootId);
+
+    // 루트부터 특정 카테고리까지의 경로를 평면 목록으로 조회 (tree_path 의 id 로 1회 조회, 깊이 순)
+    List<CategoryDto> findAncestorsFlat(Long id);
+
+    // tree_path 가 없는 카테고리의 경로를 부모 경로로부터 채움 - 채운 카테고리 수
+    int fillMissingTreePaths();
+
+    // 여러 카테고리를 id 로 조회 (부모 이름 포함, 1회 조회) - 없는 id 는 결과에서 제외, 순서 보장 없음
+    List<CategoryDto> findAllFlatByIds(Collection<Long> ids);
 }
@@ -1,12 +1,252 @@
 package com.yl.musinsa2.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.entity.GenderFilter;
+import com.yl.musinsa2.entity.QCategory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.yl.musinsa2.entity.QCategory.category;
+
+/**
+ * 카테고리 평면 조회
+ * - 엔티티를 만들지 않고 DTO로 바로 조회하여 parent/children EAGER 로딩(N+1)을 피함
+ * - 트리 구성은 호출 측(CategoryTreeSnapshot)에서 parentId 기준으로 수행
+ * - 하위 트리/조상 조회는 tree_path (루트부터의 id 경로) 로 1회 조회 - 트리 깊이만큼 반복 조회하지 않음
+ * - 경로가 없는 카테고리가 있으면 parent_id 재귀 조회로 대신하여 누락 없이 응답
+ */
 @Repository
 @RequiredArgsConstructor
 public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
 
+    private static final String FLAT_COLUMNS = """
+            SELECT c.id, c.name, c.description, c.code, c.store_code, c.store_title, c.group_title,
+                   c.display_order, c.gender_filter, c.parent_id, p.name, c.created_at, c.updated_at
+            FROM categories c
+            LEFT JOIN categories p ON p.id = c.parent_id
+            """;
+
+    private static final String TREE_PATH_SQL = "SELECT tree_path FROM categories WHERE id = :id AND deleted = FALSE";
+
+    // 하위 트리 = 시작 카테고리 경로로 시작하는 tree_path 범위 (idx_categories_tree_path 범위 스캔, 깊이와 무관)
+    private static final String SUBTREE_SQL = FLAT_COLUMNS + """
+            WHERE c.tree_path >= :fromPath AND c.tree_path < :toPath AND c.deleted = FALSE
+            ORDER BY c.tree_depth, c.parent_id, c.display_order, c.id
+            """;
+
+    private static final String ANCESTORS_SQL = FLAT_COLUMNS + """
+            WHERE c.id IN (:ids) AND c.deleted = FALSE
+            ORDER BY c.tree_depth
+            """;
+
+    // 경로가 없는 카테고리가 남아 있는지 (시작 시 보정 이후 SQL 로 직접 넣은 데이터 등)
+    private static final String MISSING_TREE_PATH_SQL =
+            "SELECT COUNT(*) FROM categories WHERE tree_path IS NULL AND deleted = FALSE";
+
+    // 경로를 쓸 수 없을 때의 대체 조회 - parent_id 를 따라 내려가는 재귀 CTE, 삭제된 카테고리와 그 하위는 제외
+    private static final String SUBTREE_BY_PARENT_SQL = """
+            WITH RECURSIVE subtree (id, depth) AS (
+                SELECT id, 0 FROM categories WHERE id = :id AND deleted = FALSE
+                UNION ALL
+                SELECT c.id, s.depth + 1
+                FROM categories c
+                JOIN subtree s ON c.parent_id = s.id
+                WHERE c.deleted = FALSE
+            )
+            """ + FLAT_COLUMNS + """
+            JOIN subtree s ON s.id = c.id
+            ORDER BY s.depth, c.parent_id, c.display_order, c.id
+            """;
+
+    // parent_id 를 따라 올라가는 재귀 CTE - 루트부터 순서대로
+    private static final String ANCESTORS_BY_PARENT_SQL = """
+            WITH RECURSIVE ancestors (id, parent_id, depth) AS (
+                SELECT id, parent_id, 0 FROM categories WHERE id = :id AND deleted = FALSE
+                UNION ALL
+                SELECT p.id, p.parent_id, a.depth + 1
+                FROM categories p
+                JOIN ancestors a ON p.id = a.parent_id
+                WHERE p.deleted = FALSE
+            )
+            """ + FLAT_COLUMNS + """
+            JOIN ancestors a ON a.id = c.id
+            ORDER BY a.depth DESC
+            """;
+
+    // 경로 보정 - 루트, 이후 부모 경로가 채워진 자식을 한 단계씩 (초기 데이터, 컬럼 추가 전 데이터)
+    private static final String FILL_ROOT_PATHS_SQL = """
+            UPDATE categories SET tree_path = CONCAT('/', id, '/'), tree_depth = 0
+            WHERE tree_path IS NULL AND parent_id IS NULL
+            """;
+
+    private static final String FILL_CHILD_PATHS_SQL = """
+            UPDATE categories c
+            SET tree_path = (SELECT CONCAT(p.tree_path, c.id, '/') FROM categories p WHERE p.id = c.parent_id),
+                tree_depth = (SELECT p.tree_depth + 1 FROM categories p WHERE p.id = c.parent_id)
+            WHERE c.tree_path IS NULL
+              AND EXISTS (SELECT 1 FROM categories p WHERE p.id = c.parent_id AND p.tree_path IS NOT NULL)
+            """;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<CategoryDto> findAllFlat() {
+        // parent.id 는 FK 컬럼으로 조회되어 부모 조인이 발생하지 않음, (parent_id, display_order) 인덱스 순서로 스캔
+        return queryFactory
+                .select(Projections.fields(CategoryDto.class,
+                        category.id,
+                        category.name,
+                        category.description,
+                        category.code,
+                        category.storeCode,
+                        category.storeTitle,
+                        category.groupTitle,
+                        category.displayOrder,
+                        category.displayOrder.as("sortOrder"),
+                        category.genderFilter,
+                        category.parent.id.as("parentId"),
+                        category.createdAt,
+                        category.updatedAt))
+                .from(category)
+                .orderBy(category.parent.id.asc().nullsFirst(), category.displayOrder.asc(), category.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<CategoryDto> findAllFlatByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 부모 이름은 같은 테이블을 한 번 더 조인하여 함께 조회 (findAllById 는 부모를 건별로 로딩)
+        QCategory parent = new QCategory("parent");
+        return queryFactory
+                .select(Projections.fields(CategoryDto.class,
+                        category.id,
+                        category.name,
+                        category.description,
+                        category.code,
+                        category.storeCode,
+                        category.storeTitle,
+                        category.groupTitle,
+                        category.displayOrder,
+                        category.displayOrder.as("sortOrder"),
+                        category.genderFilter,
+                        category.parent.id.as("parentId"),
+                        parent.name.as("parentName"),
+                        category.createdAt,
+                        category.updatedAt))
+                .from(category)
+                .leftJoin(category.parent, parent)
+                .where(category.id.in(ids))
+                .fetch();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CategoryDto> findSubtreeFlat(Long rootId) {
+        // 경로가 없는 카테고리가 있으면 범위 조회에서 빠지므로 parent_id 로 조회 (없는 id 도 여기서 빈 결과)
+        String rootPath = findTreePath(rootId);
+        if (rootPath == null || hasMissingTreePaths()) {
+            return toDtos(entityManager.createNativeQuery(SUBTREE_BY_PARENT_SQL)
+                    .setParameter("id", rootId)
+                    .getResultList());
+        }
+
+        // 경로는 '/' 로 끝나므로 상한은 마지막 '/' 다음 문자 ('0') - [/1/4/, /1/40) = /1/4/ 로 시작하는 경로
+        String toPath = rootPath.substring(0, rootPath.length() - 1) + (char) ('/' + 1);
+        return toDtos(entityManager.createNativeQuery(SUBTREE_SQL)
+                .setParameter("fromPath", rootPath)
+                .setParameter("toPath", toPath)
+                .getResultList());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CategoryDto> findAncestorsFlat(Long id) {
+        // 자신의 경로가 조상 id 를 모두 담고 있으므로 경로가 없을 때만 parent_id 로 조회
+        String path = findTreePath(id);
+        if (path == null) {
+            return toDtos(entityManager.createNativeQuery(ANCESTORS_BY_PARENT_SQL)
+                    .setParameter("id", id)
+                    .getResultList());
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                ids.add(Long.parseLong(segment));
+            }
+        }
+        return toDtos(entityManager.createNativeQuery(ANCESTORS_SQL)
+                .setParameter("ids", ids)
+                .getResultList());
+    }
+
+    @Override
+    @Transactional
+    public int fillMissingTreePaths() {
+        int filled = entityManager.createNativeQuery(FILL_ROOT_PATHS_SQL).executeUpdate();
+        int updated;
+        do {
+            updated = entityManager.createNativeQuery(FILL_CHILD_PATHS_SQL).executeUpdate();
+            filled += updated;
+        } while (updated > 0);
+        return filled;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String findTreePath(Long id) {
+        List<String> paths = entityManager.createNativeQuery(TREE_PATH_SQL)
+                .setParameter("id", id)
+                .getResultList();
+        return paths.isEmpty() ? null : paths.get(0);
+    }
+
+    private boolean hasMissingTreePaths() {
+        Number missing = (Number) entityManager.createNativeQuery(MISSING_TREE_PATH_SQL).getSingleResult();
+        return missing.longValue() > 0;
+    }
+
+    private static List<CategoryDto> toDtos(List<Object[]> rows) {
+        List<CategoryDto> categories = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Integer displayOrder = row[7] != null ? ((Number) row[7]).intValue() : 0;
+            categories.add(CategoryDto.builder()
+                    .id(((Number) row[0]).longValue())
+                    .name((String) row[1])
+                    .description((String) row[2])
+                    .code((String) row[3])
+                    .storeCode((String) row[4])
+                    .storeTitle((String) row[5])
+                    .groupTitle((String) row[6])
+                    .displayOrder(displayOrder)
+                    .sortOrder(displayOrder)
+                    .genderFilter(GenderFilter.fromCode((String) row[8]))
+                    .parentId(row[9] != null ? ((Number) row[9]).longValue() : null)
+                    .parentName((String) row[10])
+                    .createdAt(toLocalDateTime(row[11]))
+                    .updatedAt(toLocalDateTime(row[12]))
+                    .build());
+        }
+        return categories;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
 }
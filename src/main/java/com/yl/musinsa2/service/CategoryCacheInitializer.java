@@ -1,47 +1,102 @@
 package com.yl.musinsa2.service;
 
-import com.yl.musinsa2.dto.CategoryDto;
-import com.yl.musinsa2.entity.Category;
-import com.yl.musinsa2.repository.CategoryRepository;
+import com.yl.musinsa2.cache.CategoryCacheGeneration;
+import com.yl.musinsa2.cache.CategoryCacheMetrics;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.service.CategoryTreeLoad.Outcome;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+/**
+ * 카테고리 캐시 워밍업
+ * - 시작 시 공유 캐시(Redis)를 지우지 않음 - 유효한 세대가 있으면 L1만 적재
+ * - 세대가 없으면 재구성 임대를 획득한 인스턴스 하나만 DB 로딩, 나머지는 그 결과로 L1 적재
+ * - 결과(reused, rebuilt, remote, empty, failed - CategoryTreeLoad.Outcome)는 /actuator/info (categoryCache.warmUp) 와 category.cache.warmup.duration 지표로 노출
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class CategoryCacheInitializer {
-    
-    private final CategoryRepository categoryRepository;
+public class CategoryCacheInitializer implements InfoContributor {
+
     private final CategoryCacheService categoryCache;
-    
+    private final CategoryCacheGeneration generation;
+    private final CategoryCacheMetrics cacheMetrics;
+
+    // 워밍업 상태 (pending -> running -> completed)
+    private volatile String status = "pending";
+    private volatile String outcome;
+    private volatile long durationMillis;
+    private volatile int rootCount;
+    private volatile Instant completedAt;
+
     @EventListener(ApplicationReadyEvent.class)
     public void initializeCache() {
-        log.info("카테고리 캐시 초기화 시작...");
-        
+        log.info("카테고리 캐시 워밍업 시작...");
+        status = "running";
+        long start = System.nanoTime();
+        String result;
+        int roots = 0;
+
         try {
-            // 기존 캐시 모두 초기화
-            categoryCache.clearAllCache();
-            
-            // DB에서 전체 트리 로딩 및 양쪽 캐시에 저장
-            List<CategoryDto> tree = categoryCache.loadAndCacheFromDB();
-            
-            log.info("카테고리 캐시 초기화 완료 - 총 {} 개의 루트 카테고리", tree.size());
-            
+            // 1. 현재 세대의 Redis 트리가 있으면 L1만 적재
+            // 2. 없으면 임대를 획득한 인스턴스가 재구성(rebuilt/empty), 나머지는 재구성 결과 대기(remote)
+            CategoryTreeSnapshot reused = categoryCache.warmLocalFromRedis();
+            CategoryTreeLoad load = reused != null
+                    ? new CategoryTreeLoad(reused, Outcome.REUSED)
+                    : categoryCache.rebuildTree();
+            result = load.outcomeName();
+            roots = load.snapshot().rootCount();
+
+            if (load.outcome() == Outcome.FAILED) {
+                log.warn("카테고리 캐시 워밍업 실패 - 트리를 적재하지 못함, 첫 조회 시 재구성");
+            } else {
+                log.info("카테고리 캐시 워밍업 완료 - outcome={}, 총 {} 개의 루트 카테고리", result, roots);
+            }
+
         } catch (Exception e) {
-            log.error("카테고리 캐시 초기화 실패", e);
+            log.error("카테고리 캐시 워밍업 실패", e);
+            result = "failed";
         }
+
+        long elapsedNanos = System.nanoTime() - start;
+        cacheMetrics.warmUp(result, elapsedNanos);
+        outcome = result;
+        rootCount = roots;
+        durationMillis = elapsedNanos / 1_000_000;
+        completedAt = Instant.now();
+        status = "completed";
     }
-    
+
     /**
-     * 수동 캐시 초기화 (필요시 호출)
+     * 수동 캐시 초기화 (필요시 호출) - DB 기준으로 새 세대를 만들고 포인터 교체
      */
     public void reinitializeCache() {
         log.info("수동 카테고리 캐시 재초기화 시작...");
-        initializeCache();
+        CategoryTreeSnapshot snapshot = categoryCache.rebuildGeneration();
+        log.info("수동 카테고리 캐시 재초기화 완료 - 총 {} 개의 루트 카테고리", snapshot.rootCount());
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        Map<String, Object> warmUp = new LinkedHashMap<>();
+        warmUp.put("status", status);
+        if (completedAt != null) {
+            warmUp.put("outcome", outcome);
+            warmUp.put("durationMillis", durationMillis);
+            warmUp.put("rootCount", rootCount);
+            warmUp.put("completedAt", completedAt.toString());
+        }
+        warmUp.put("generation", generation.current());
+
+        builder.withDetail("categoryCache", Map.of("warmUp", warmUp));
     }
 }
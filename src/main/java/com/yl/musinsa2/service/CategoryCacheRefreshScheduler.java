@@ -0,0 +1,24 @@
+package com.yl.musinsa2.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 트리 선제 갱신 (refresh-ahead)
+ * 조회 요청이 없어도 만료 전에 트리를 재구성하여 만료 직후의 캐시 미스를 방지
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "category.cache.refresh", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CategoryCacheRefreshScheduler {
+
+    private final CategoryCacheService categoryCache;
+
+    @Scheduled(fixedDelayString = "${category.cache.refresh.check-interval:PT10S}",
+            initialDelayString = "${category.cache.refresh.check-interval:PT10S}")
+    public void refreshAhead() {
+        categoryCache.refreshAheadIfNeeded();
+    }
+}
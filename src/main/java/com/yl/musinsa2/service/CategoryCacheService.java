@@ -1,25 +1,53 @@
 package com.yl.musinsa2.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yl.musinsa2.cache.CategoryCacheCodec;
+import com.yl.musinsa2.cache.CategoryCacheGeneration;
+import com.yl.musinsa2.cache.CategoryCacheMetrics;
+import com.yl.musinsa2.cache.CategoryCacheMetrics.EntryType;
+import com.yl.musinsa2.cache.CategoryCacheMetrics.Tier;
+import com.yl.musinsa2.cache.CategoryChangeEvent;
+import com.yl.musinsa2.cache.CategoryLocalCache;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.cache.RedisCircuitBreaker;
+import com.yl.musinsa2.cache.RedisLease;
+import com.yl.musinsa2.config.CategoryCacheProperties;
 import com.yl.musinsa2.dto.CategoryDto;
-import com.yl.musinsa2.dto.CategoryResponse;
-import com.yl.musinsa2.entity.Category;
 import com.yl.musinsa2.repository.CategoryRepository;
+import com.yl.musinsa2.service.CategoryTreeLoad.Outcome;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -27,39 +55,83 @@ import java.util.stream.Collectors;
 public class CategoryCacheService {
 
     @Qualifier("categoryRedisTemplate")
-    private final RedisTemplate<String, Object> categoryRedisTemplate;
+    private final RedisTemplate<String, byte[]> categoryRedisTemplate;
 
     @Qualifier("treeRedisTemplate")
-    private final RedisTemplate<String, Object> treeRedisTemplate;
+    private final RedisTemplate<String, byte[]> treeRedisTemplate;
 
     private final CategoryRepository categoryRepository;
-    private final ObjectMapper objectMapper;
+    private final CategoryCacheCodec codec;
+    private final CategoryLocalCache localCache;
+    private final CategoryCacheMetrics cacheMetrics;
+    private final RedisLease redisLease;
+    private final CategoryCacheProperties cacheProperties;
+    private final CategoryCacheGeneration generation;
+    private final RedisCircuitBreaker circuitBreaker;
 
-    // 1. 개별 카테고리 키
-    private static final String CATEGORY_KEY_PREFIX = "category:";
+    // 개별 카테고리 키 category:{gen}:{id}, 전체 트리 키 category:{gen}:tree (CategoryCacheGeneration)
 
-    // 2. 전체 트리 키
-    private static final String CATEGORY_TREE_KEY = "category:tree";
+    // 트리 재구성 임대 키 (인스턴스 간 동시 재구성 방지)
+    private static final String TREE_REBUILD_LEASE_KEY = "category:tree:rebuild-lease";
 
     private static final long TTL_HOURS = 1;
 
+    // 트리 부분 반영 (compare-and-set) - 트리 내용 해시가 반영을 시작한 스냅샷과 같을 때만 TTL 을 유지한 채 교체
+    // 1: 교체, -1: 트리 없음 (무효화된 트리를 되살리지 않음), 0: 다른 인스턴스의 변경이 먼저 기록됨 - 트리 제거
+    private static final RedisScript<Long> PATCH_TREE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return -1 end "
+                    + "if redis.call('get', KEYS[2]) ~= ARGV[1] then redis.call('unlink', KEYS[1], KEYS[2]) return 0 end "
+                    + "redis.call('set', KEYS[1], ARGV[3], 'KEEPTTL') "
+                    + "redis.call('set', KEYS[2], ARGV[2], 'KEEPTTL') "
+                    + "return 1",
+            Long.class);
+
+    // 진행 중인 트리 재구성 - 인스턴스 내 동시 재구성 요청을 하나로 합침 (single-flight)
+    private final AtomicReference<CompletableFuture<CategoryTreeLoad>> treeRebuild = new AtomicReference<>();
+
+    // 백그라운드 트리 갱신 (stale-while-revalidate, refresh-ahead) - 한 번에 하나만 실행
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "category-tree-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    // 임대 없이 DB 재구성한 마지막 시각 (System.nanoTime, 0 은 없음) - 인스턴스 단독 재구성 빈도 제한
+    private final AtomicLong lastUnleasedRebuild = new AtomicLong();
+
     /**
-     * 1. 개별 카테고리 조회 - category:id 형태
+     * 1. 개별 카테고리 조회 - L1 -> category:id 순서
+     * 호출 측에서 children 등을 수정할 수 있으므로 L1 값은 복사본으로 반환
      */
     public CategoryDto getCategory(Long id) {
-        String key = CATEGORY_KEY_PREFIX + id;
+        CategoryDto local = localCache.getCategory(id);
+        if (local != null) {
+            cacheMetrics.hit(Tier.L1, EntryType.NODE);
+            return local.toBuilder().build();
+        }
+        cacheMetrics.miss(Tier.L1, EntryType.NODE);
+
+        String key = CategoryCacheGeneration.nodeKey(generation.current(), id);
 
         try {
-            Object categoryData = categoryRedisTemplate.opsForValue().get(key);
+            byte[] categoryData = circuitBreaker.execute(() -> categoryRedisTemplate.opsForValue().get(key));
             if (categoryData != null) {
-                CategoryResponse category = objectMapper.convertValue(categoryData, CategoryResponse.class);
-                log.debug("개별 카테고리 캐시 HIT: id={}, name={}", id, category.getName());
-                return convertToCategoryDto(category);
+                CategoryDto dto = codec.decodeNode(categoryData);
+                log.debug("개별 카테고리 캐시 HIT: id={}, name={}", id, dto.getName());
+                cacheMetrics.hit(Tier.L2, EntryType.NODE);
+
+                localCache.putCategory(dto);
+                return dto.toBuilder().build();
             }
 
             log.debug("개별 카테고리 캐시 MISS: id={}", id);
+            cacheMetrics.miss(Tier.L2, EntryType.NODE);
             return null;
 
+        } catch (RedisCircuitBreaker.CircuitOpenException e) {
+            cacheMetrics.miss(Tier.L2, EntryType.NODE);
+            return null;
         } catch (Exception e) {
             log.error("개별 카테고리 조회 실패: id={}, error={}", id, e.getMessage());
             return null;
@@ -67,358 +139,859 @@ public class CategoryCacheService {
     }
 
     /**
-     * 2. 전체 카테고리 트리 조회 - category:tree
+     * 여러 카테고리 조회 - L1 -> category:{gen}:{id} MGET 1회 순서, 없는 id 는 결과에서 제외
+     * 단건 조회와 같이 복사본으로 반환
+     */
+    public Map<Long, CategoryDto> getCategories(Collection<Long> ids) {
+        Map<Long, CategoryDto> found = new HashMap<>(ids.size() * 2);
+        List<Long> remoteIds = new ArrayList<>();
+        for (Long id : ids) {
+            CategoryDto local = localCache.getCategory(id);
+            if (local != null) {
+                cacheMetrics.hit(Tier.L1, EntryType.NODE);
+                found.put(id, local.toBuilder().build());
+            } else {
+                cacheMetrics.miss(Tier.L1, EntryType.NODE);
+                remoteIds.add(id);
+            }
+        }
+        if (remoteIds.isEmpty()) {
+            return found;
+        }
+
+        long currentGeneration = generation.current();
+        List<String> keys = new ArrayList<>(remoteIds.size());
+        for (Long id : remoteIds) {
+            keys.add(CategoryCacheGeneration.nodeKey(currentGeneration, id));
+        }
+
+        try {
+            List<byte[]> values = circuitBreaker.execute(() -> categoryRedisTemplate.opsForValue().multiGet(keys));
+            for (int i = 0; i < remoteIds.size(); i++) {
+                byte[] categoryData = values != null ? values.get(i) : null;
+                if (categoryData == null) {
+                    cacheMetrics.miss(Tier.L2, EntryType.NODE);
+                    continue;
+                }
+                try {
+                    CategoryDto dto = codec.decodeNode(categoryData);
+                    cacheMetrics.hit(Tier.L2, EntryType.NODE);
+                    localCache.putCategory(dto);
+                    found.put(dto.getId(), dto.toBuilder().build());
+                } catch (Exception e) {
+                    // 해석할 수 없는 값은 미스로 처리하여 DB 에서 다시 채움
+                    log.error("개별 카테고리 해석 실패: key={}, error={}", keys.get(i), e.getMessage());
+                    cacheMetrics.miss(Tier.L2, EntryType.NODE);
+                }
+            }
+            log.debug("여러 카테고리 캐시 조회: 요청={}, L2 조회={}, 결과={}", ids.size(), remoteIds.size(), found.size());
+
+        } catch (RedisCircuitBreaker.CircuitOpenException e) {
+            remoteIds.forEach(id -> cacheMetrics.miss(Tier.L2, EntryType.NODE));
+        } catch (Exception e) {
+            log.error("여러 카테고리 조회 실패: ids={}, error={}", remoteIds.size(), e.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * 2. 전체 카테고리 트리 조회 - L1 -> category:tree 순서
      */
     public List<CategoryDto> getCategoryTree() {
+        CategoryTreeSnapshot snapshot = getTreeSnapshot();
+        return snapshot != null ? snapshot.toDtoTree() : Collections.emptyList();
+    }
+
+    /**
+     * 트리 스냅샷 조회 - L1 -> category:tree 순서, 없으면 null
+     * - Redis에서 읽은 트리는 스냅샷으로 한 번만 변환하여 L1에 게시
+     * - 무효화/갱신 시점이 지난 L1 스냅샷은 허용 지연 이내라면 그대로 응답하고 백그라운드에서 갱신
+     * - Redis 회로가 열려 있으면 허용 지연과 관계없이 마지막 L1 트리로 응답 (요청 스레드가 Redis/DB 를 기다리지 않음)
+     */
+    public CategoryTreeSnapshot getTreeSnapshot() {
+        CategoryTreeSnapshot localTree = localCache.getSnapshot();
+        if (localTree != null) {
+            cacheMetrics.hit(Tier.L1, EntryType.TREE);
+            return localTree;
+        }
+
+        CategoryTreeSnapshot staleTree = localCache.getStaleSnapshot();
+        if (staleTree != null) {
+            cacheMetrics.hit(Tier.L1, EntryType.TREE);
+            refreshTreeAsync("stale");
+            return staleTree;
+        }
+
+        if (!circuitBreaker.isClosed()) {
+            CategoryTreeSnapshot lastKnown = localCache.getLastKnownSnapshot();
+            if (lastKnown != null) {
+                cacheMetrics.hit(Tier.L1, EntryType.TREE);
+                refreshTreeAsync("stale");
+                return lastKnown;
+            }
+        }
+        cacheMetrics.miss(Tier.L1, EntryType.TREE);
+
+        return readTreeFromRedis();
+    }
+
+    /**
+     * 현재 세대의 Redis 트리로 L1 적재 (시작 시 워밍업용) - 유효한 세대가 없으면 null
+     */
+    public CategoryTreeSnapshot warmLocalFromRedis() {
+        CategoryTreeSnapshot snapshot = readTreeFromRedis();
+        return snapshot != null && !snapshot.isEmpty() ? snapshot : null;
+    }
+
+    /**
+     * Redis 트리 조회 후 스냅샷으로 변환하여 L1에 게시, 없으면 null
+     * 다른 인스턴스가 세대를 교체했을 수 있으므로 포인터를 다시 읽은 뒤 조회
+     */
+    private CategoryTreeSnapshot readTreeFromRedis() {
+        long version = localCache.nextVersion();
         try {
-            Object cachedTree = treeRedisTemplate.opsForValue().get(CATEGORY_TREE_KEY);
+            long currentGeneration = generation.refresh();
+            byte[] cachedTree = circuitBreaker.execute(() ->
+                    treeRedisTemplate.opsForValue().get(CategoryCacheGeneration.treeKey(currentGeneration)));
 
             if (cachedTree != null) {
-                List<CategoryResponse> tree = objectMapper.convertValue(cachedTree,
-                        new TypeReference<>() {
-                        });
-
-                log.debug("전체 트리 캐시 HIT: {} 루트 카테고리", tree.size());
-                return tree.stream()
-                        .map(this::convertToCategoryDto)
-                        .collect(Collectors.toList());
+                // 저장 형식에서 스냅샷으로 바로 복원 (중간 Map/응답 객체 변환 없음)
+                CategoryTreeSnapshot snapshot = codec.decodeTree(version, cachedTree);
+
+                log.debug("전체 트리 캐시 HIT: {} 카테고리, {} bytes", snapshot.size(), cachedTree.length);
+                cacheMetrics.hit(Tier.L2, EntryType.TREE);
+                return localCache.publish(snapshot);
             }
 
             log.debug("전체 트리 캐시 MISS");
-            return Collections.emptyList();
+            cacheMetrics.miss(Tier.L2, EntryType.TREE);
+            return null;
 
+        } catch (RedisCircuitBreaker.CircuitOpenException e) {
+            cacheMetrics.miss(Tier.L2, EntryType.TREE);
+            return null;
         } catch (Exception e) {
             log.error("전체 트리 조회 실패: error={}", e.getMessage());
-            return Collections.emptyList();
+            return null;
         }
     }
 
     /**
-     * 개별 카테고리 저장
+     * 개별 카테고리 저장 - 현재 세대에 저장
      */
     public void addCategory(CategoryDto category) {
-        String key = CATEGORY_KEY_PREFIX + category.getId();
+        addCategory(generation.refresh(), category);
+    }
 
+    private void addCategory(long targetGeneration, CategoryDto category) {
         try {
-            CategoryResponse response = convertToCategoryResponse(category);
-            categoryRedisTemplate.opsForValue().set(key, response, Duration.ofHours(TTL_HOURS));
+            String key = CategoryCacheGeneration.nodeKey(targetGeneration, category.getId());
+            byte[] value = codec.encodeNode(category);
+            circuitBreaker.run(() -> categoryRedisTemplate.opsForValue().set(key, value, Duration.ofHours(TTL_HOURS)));
+            localCache.putCategory(category);
             log.debug("개별 카테고리 저장: id={}, name={}", category.getId(), category.getName());
 
         } catch (Exception e) {
             log.error("개별 카테고리 저장 실패: id={}, error={}", category.getId(), e.getMessage(), e);
+            // L2 저장에 실패한 값이 L1에만 남지 않도록 제거
+            localCache.evictCategory(category.getId());
         }
     }
 
     /**
-     * 전체 트리 저장
+     * 여러 카테고리 저장 - 현재 세대에 파이프라인 1회로 저장 (SET EX)
      */
-    public void saveCategoryTree(List<CategoryDto> tree) {
-        try {
-            List<CategoryResponse> responseTree = tree.stream()
-                    .map(this::convertToCategoryResponse)
-                    .collect(Collectors.toList());
+    public void addCategories(Collection<CategoryDto> categories) {
+        if (categories.isEmpty()) {
+            return;
+        }
 
-            treeRedisTemplate.opsForValue().set(CATEGORY_TREE_KEY, responseTree, Duration.ofMinutes(30));
-            log.debug("전체 트리 저장: {} 루트 카테고리", tree.size());
+        try {
+            long currentGeneration = generation.refresh();
+            List<Map.Entry<String, byte[]>> batch = new ArrayList<>(categories.size());
+            for (CategoryDto category : categories) {
+                batch.add(Map.entry(CategoryCacheGeneration.nodeKey(currentGeneration, category.getId()),
+                        codec.encodeNode(category)));
+            }
+            cacheMetrics.getBulkTimer("set").record(() ->
+                    circuitBreaker.run(() -> setWithTtlPipelined(batch, Duration.ofHours(TTL_HOURS))));
+            categories.forEach(localCache::putCategory);
+            log.debug("여러 카테고리 저장: {} 개", categories.size());
 
         } catch (Exception e) {
-            log.error("전체 트리 저장 실패: error={}", e.getMessage());
+            log.error("여러 카테고리 저장 실패: {} 개, error={}", categories.size(), e.getMessage());
+            // L2 저장에 실패한 값이 L1에만 남지 않도록 제거
+            categories.forEach(category -> localCache.evictCategory(category.getId()));
         }
     }
 
+    /**
+     * 전체 트리 저장 - 실패 시 세대를 활성화하지 않도록 예외 전파
+     * 트리 내용 해시를 먼저 저장 (트리만 남고 해시가 없으면 부분 반영이 불일치로 처리하여 트리를 제거)
+     */
+    private void saveCategoryTree(long targetGeneration, CategoryTreeSnapshot snapshot) {
+        byte[] tree = codec.encodeTree(snapshot);
+
+        circuitBreaker.run(() -> {
+            treeRedisTemplate.opsForValue().set(CategoryCacheGeneration.treeHashKey(targetGeneration),
+                    treeHash(snapshot), Duration.ofMinutes(30));
+            treeRedisTemplate.opsForValue().set(CategoryCacheGeneration.treeKey(targetGeneration),
+                    tree, Duration.ofMinutes(30));
+        });
+        log.debug("전체 트리 저장: generation={}, {} 카테고리, {} bytes", targetGeneration, snapshot.size(), tree.length);
+    }
+
     /**
      * DB에서 데이터 로딩 후 양쪽 모두에 캐싱
+     * - 인스턴스 내: 동시 호출은 진행 중인 하나의 재구성 결과를 공유
+     * - 인스턴스 간: Redis 임대를 획득한 인스턴스만 DB 로딩 및 Redis 저장 수행
+     * - DB 로딩 실패(대기 시간 초과 포함)이고 마지막 트리도 없으면 CategoryTreeSnapshot.empty()
      */
-    public List<CategoryDto> loadAndCacheFromDB() {
-        try {
-            log.info("DB에서 카테고리 데이터 로딩 시작");
+    public CategoryTreeSnapshot loadAndCacheFromDB() {
+        return rebuildTree().snapshot();
+    }
 
-            // 1. DB에서 모든 카테고리 조회
-            List<Category> allCategories = categoryRepository.findAll();
+    /**
+     * loadAndCacheFromDB 와 같은 재구성 - 트리를 어떤 경로로 얻었는지(재구성, 다른 인스턴스 결과, 실패 등)를 함께 반환
+     */
+    public CategoryTreeLoad rebuildTree() {
+        return rebuildSingleFlight(this::rebuildWithLease);
+    }
 
-            // 2. 트리 구조 구성
-            List<CategoryDto> tree = buildCategoryTree(allCategories);
+    /**
+     * 인스턴스 내 single-flight - 진행 중인 재구성이 있으면 그 결과를 공유
+     */
+    private CategoryTreeLoad rebuildSingleFlight(Supplier<CategoryTreeLoad> rebuilder) {
+        CompletableFuture<CategoryTreeLoad> rebuild = new CompletableFuture<>();
+        CompletableFuture<CategoryTreeLoad> inFlight = treeRebuild.compareAndExchange(null, rebuild);
 
-            // 3. 양쪽 캐시에 모두 저장
-            cacheBothFormats(tree, allCategories);
+        if (inFlight != null) {
+            cacheMetrics.rebuild("coalesced");
+            return awaitRebuild(inFlight);
+        }
+
+        try {
+            CategoryTreeLoad load = cacheMetrics.getRebuildTimer().record(rebuilder);
+            rebuild.complete(load);
+            return load;
+        } catch (RuntimeException e) {
+            rebuild.completeExceptionally(e);
+            throw e;
+        } finally {
+            treeRebuild.compareAndSet(rebuild, null);
+        }
+    }
+
+    /**
+     * 진행 중인 재구성 결과 대기 - 시간 초과/실패 시 마지막으로 알려진 트리 반환
+     */
+    private CategoryTreeLoad awaitRebuild(CompletableFuture<CategoryTreeLoad> inFlight) {
+        long timeoutMillis = cacheProperties.getRebuild().getWaitTimeout().toMillis();
+        try {
+            return inFlight.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("트리 재구성 대기 시간 초과 - 마지막 트리로 응답");
+            cacheMetrics.rebuild("timeout");
+        } catch (ExecutionException e) {
+            log.error("트리 재구성 실패 - 마지막 트리로 응답", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
 
-            log.info("DB 로딩 및 캐싱 완료: {} 카테고리", allCategories.size());
-            return tree;
+        CategoryTreeSnapshot lastKnown = localCache.getLastKnownSnapshot();
+        return new CategoryTreeLoad(lastKnown != null ? lastKnown : CategoryTreeSnapshot.empty(), Outcome.FAILED);
+    }
 
+    /**
+     * 임대를 획득한 경우에만 DB 재구성, 다른 인스턴스가 재구성 중이면 그 결과를 대기
+     */
+    private CategoryTreeLoad rebuildWithLease() {
+        RedisLease.Lease lease;
+        try {
+            lease = circuitBreaker.execute(() ->
+                    redisLease.tryAcquire(TREE_REBUILD_LEASE_KEY, cacheProperties.getRebuild().getLeaseTtl()));
         } catch (Exception e) {
-            log.error("DB 로딩 실패", e);
-            return Collections.emptyList();
+            // Redis 장애 시에는 인스턴스 단독으로 재구성
+            log.warn("트리 재구성 임대 획득 실패, 단독 재구성: error={}", e.getMessage());
+            return rebuildUnleased();
+        }
+
+        if (lease == null) {
+            CategoryTreeSnapshot remote = waitForRemoteRebuild();
+            if (remote != null) {
+                cacheMetrics.rebuild("remote");
+                return new CategoryTreeLoad(remote, Outcome.REMOTE);
+            }
+            log.warn("다른 인스턴스의 트리 재구성 대기 시간 초과, 단독 재구성");
+            return rebuildUnleased();
+        }
+
+        try (lease) {
+            // 임대 대기 중 다른 인스턴스가 이미 저장했을 수 있으므로 재확인
+            CategoryTreeSnapshot cached = readTreeFromRedis();
+            if (cached != null && !cached.isEmpty()) {
+                cacheMetrics.rebuild("remote");
+                return new CategoryTreeLoad(cached, Outcome.REMOTE);
+            }
+            cacheMetrics.rebuild("leader");
+            return loadFromDB();
+        }
+    }
+
+    /**
+     * 임대 없는 단독 재구성 - unleased-interval 에 한 번만 DB 로딩, 그 사이에는 마지막 트리로 응답
+     * (Redis 장애 중 모든 인스턴스가 갱신 주기마다 DB 를 읽지 않도록 함, 마지막 트리가 없으면 항상 로딩)
+     */
+    private CategoryTreeLoad rebuildUnleased() {
+        CategoryTreeSnapshot lastKnown = localCache.getLastKnownSnapshot();
+        long now = System.nanoTime();
+        long last = lastUnleasedRebuild.get();
+        if (lastKnown != null && last != 0
+                && now - last < cacheProperties.getRebuild().getUnleasedInterval().toNanos()) {
+            cacheMetrics.rebuild("throttled");
+            return new CategoryTreeLoad(lastKnown, Outcome.REUSED);
         }
+
+        lastUnleasedRebuild.set(now);
+        cacheMetrics.rebuild("unleased");
+        return loadFromDB();
     }
 
     /**
-     * 양쪽 형태로 모두 캐싱
+     * 임대 보유 인스턴스가 Redis에 트리를 저장할 때까지 대기, 시간 초과 시 null
      */
-    private void cacheBothFormats(List<CategoryDto> tree, List<Category> allCategories) {
-        // 1) 전체 트리 저장
-        saveCategoryTree(tree);
+    private CategoryTreeSnapshot waitForRemoteRebuild() {
+        CategoryCacheProperties.Rebuild rebuild = cacheProperties.getRebuild();
+        long deadline = System.nanoTime() + rebuild.getWaitTimeout().toNanos();
+
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(rebuild.getPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
 
-        // 2) 개별 카테고리들을 일괄 저장 (Pipeline 사용)
-        saveCategoriesBatch(allCategories);
+            CategoryTreeSnapshot snapshot = readTreeFromRedis();
+            if (snapshot != null && !snapshot.isEmpty()) {
+                return snapshot;
+            }
+        }
+        return null;
+    }
 
-        log.info("양쪽 캐시 저장 완료: 트리 + 개별({} 개)", allCategories.size());
+    /**
+     * 백그라운드 트리 갱신 - 이미 예약/진행 중이면 무시
+     * Redis 트리가 남아 있으면 L1만 교체하고, 없으면 DB 재구성 (single-flight + 임대)
+     */
+    public void refreshTreeAsync(String trigger) {
+        submitRefresh(trigger, () -> {
+            if (readTreeFromRedis() == null) {
+                loadAndCacheFromDB();
+            }
+        });
     }
 
     /**
-     * 개별 카테고리들을 일괄 저장 (MultiSet 사용)
+     * 선제 갱신 확인 (주기 실행)
+     * 1) L1 - 갱신 시점이 지난 스냅샷은 조회 요청이 없어도 미리 갱신
+     * 2) 세대 - 다른 인스턴스가 세대를 교체했으면 L1을 새 세대 트리로 교체
+     * 3) L2 - Redis 트리가 없거나 만료가 임박하면 임대를 획득한 인스턴스가 재구성
      */
-    private void saveCategoriesBatch(List<Category> allCategories) {
+    public void refreshAheadIfNeeded() {
+        CategoryTreeSnapshot current = localCache.getLastKnownSnapshot();
+        if (current != null && localCache.isStale(current)) {
+            refreshTreeAsync("stale");
+            return;
+        }
+        if (!circuitBreaker.isClosed()) {
+            // 세대/TTL 확인은 회로가 닫힌 뒤 (복구 확인은 RedisCircuitBreaker 가 백그라운드에서 수행)
+            return;
+        }
+
+        Long remainingSeconds;
         try {
-            // 일괄 저장용 Map 준비
-            Map<String, Object> categoryMap = new HashMap<>();
+            long cachedGeneration = generation.current();
+            long currentGeneration = generation.refresh();
+            if (current != null && currentGeneration != cachedGeneration) {
+                // 다른 인스턴스가 세대를 교체함
+                refreshTreeAsync("generation");
+                return;
+            }
+            remainingSeconds = circuitBreaker.execute(() ->
+                    treeRedisTemplate.getExpire(CategoryCacheGeneration.treeKey(currentGeneration), TimeUnit.SECONDS));
+        } catch (Exception e) {
+            log.warn("트리 캐시 TTL 조회 실패: error={}", e.getMessage());
+            return;
+        }
+        if (remainingSeconds == null) {
+            return;
+        }
+        cacheMetrics.treeRedisTtl(remainingSeconds);
+
+        if (remainingSeconds == -2) {
+            // 다른 인스턴스에서 무효화됨
+            refreshTreeAsync("missing");
+        } else if (remainingSeconds >= 0
+                && remainingSeconds < cacheProperties.getRefresh().getAhead().toSeconds()) {
+            submitRefresh("ahead", this::rebuildAhead);
+        }
+    }
+
+    /**
+     * 만료 전 재구성 - 임대를 획득한 인스턴스만 수행, 나머지는 갱신된 Redis 트리를 이후 주기에 반영
+     */
+    private void rebuildAhead() {
+        RedisLease.Lease lease = circuitBreaker.execute(() ->
+                redisLease.tryAcquire(TREE_REBUILD_LEASE_KEY, cacheProperties.getRebuild().getLeaseTtl()));
+        if (lease == null) {
+            return;
+        }
+
+        try (lease) {
+            rebuildGeneration();
+        }
+    }
+
+    /**
+     * DB 기준으로 새 세대를 만들고 포인터 교체 - 기존 Redis 트리를 재사용하지 않음
+     * 교체 전까지 다른 인스턴스는 이전 세대로 계속 응답
+     */
+    public CategoryTreeSnapshot rebuildGeneration() {
+        return rebuildSingleFlight(this::loadFromDB).snapshot();
+    }
 
-            for (Category category : allCategories) {
+    private void submitRefresh(String trigger, Runnable refresh) {
+        if (treeRebuild.get() != null || !refreshScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        cacheMetrics.refresh(trigger);
+        try {
+            refreshExecutor.execute(() -> {
                 try {
-                    String key = CATEGORY_KEY_PREFIX + category.getId();
-                    CategoryResponse response = CategoryResponse.from(category);
-                    categoryMap.put(key, response);
+                    cacheMetrics.getRefreshTimer().record(refresh);
                 } catch (Exception e) {
-                    log.error("카테고리 변환 실패: id={}", category.getId(), e);
+                    log.error("백그라운드 트리 갱신 실패: trigger={}", trigger, e);
+                } finally {
+                    refreshScheduled.set(false);
                 }
-            }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshScheduled.set(false);
+        }
+    }
 
-            if (!categoryMap.isEmpty()) {
-                // MultiSet으로 일괄 저장
-                categoryRedisTemplate.opsForValue().multiSet(categoryMap);
+    @PreDestroy
+    public void shutdownRefreshExecutor() {
+        refreshExecutor.shutdownNow();
+    }
 
-                // TTL 일괄 설정
-                for (String key : categoryMap.keySet()) {
-                    categoryRedisTemplate.expire(key, Duration.ofHours(TTL_HOURS));
-                }
+    private CategoryTreeLoad loadFromDB() {
+        // 조회 전에 버전을 발급하여 조회 도중의 무효화가 반영되지 않은 결과는 stale로 취급
+        long version = localCache.nextVersion();
+        try {
+            log.info("DB에서 카테고리 데이터 로딩 시작");
 
-                log.debug("개별 카테고리 일괄 저장 완료: {} 개", categoryMap.size());
-            }
+            // 1. DB에서 모든 카테고리를 평면 목록으로 조회 (엔티티 그래프 로딩 없음)
+            List<CategoryDto> categories = categoryRepository.findAllFlat();
+
+            // 2. 트리 스냅샷 구성
+            CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(version, categories);
+
+            // 3. 양쪽 캐시에 모두 저장
+            cacheBothFormats(snapshot);
+
+            log.info("DB 로딩 및 캐싱 완료: {} 카테고리", categories.size());
+            return new CategoryTreeLoad(snapshot, snapshot.isEmpty() ? Outcome.EMPTY : Outcome.REBUILT);
 
         } catch (Exception e) {
-            log.error("개별 카테고리 일괄 저장 실패", e);
-            // MultiSet 실패 시 fallback으로 개별 저장
-            fallbackSaveCategories(allCategories);
+            log.error("DB 로딩 실패", e);
+            return new CategoryTreeLoad(CategoryTreeSnapshot.empty(), Outcome.FAILED);
         }
     }
 
     /**
-     * MultiSet 실패 시 fallback 개별 저장
+     * 양쪽 형태로 모두 캐싱 - Redis는 새 세대에 모두 저장한 뒤 포인터 교체
      */
-    private void fallbackSaveCategories(List<Category> allCategories) {
-        log.warn("MultiSet 저장 실패, 개별 저장으로 fallback");
-        for (Category category : allCategories) {
-            try {
-                CategoryDto dto = CategoryDto.from(category);
-                addCategory(dto);
-            } catch (Exception e) {
-                log.error("Fallback 개별 저장 실패: id={}", category.getId(), e);
-            }
+    private void cacheBothFormats(CategoryTreeSnapshot snapshot) {
+        // 0) L1 저장
+        localCache.publish(snapshot);
+        localCache.putCategories(snapshot);
+
+        try {
+            long newGeneration = generation.next();
+
+            // 1) 개별 카테고리들을 일괄 저장 (Pipeline 사용)
+            saveCategoriesBatch(newGeneration, snapshot);
+
+            // 2) 전체 트리 저장
+            saveCategoryTree(newGeneration, snapshot);
+
+            // 3) 포인터 교체 - 이전 세대는 TTL 경과 후 만료
+            generation.activate(newGeneration);
+
+            log.info("양쪽 캐시 저장 완료: generation={}, 트리 + 개별({} 개)", newGeneration, snapshot.size());
+
+        } catch (Exception e) {
+            // 현재 세대는 그대로 유지되므로 다른 인스턴스는 이전 세대로 계속 응답
+            log.error("새 캐시 세대 저장 실패 - 이전 세대 유지", e);
         }
     }
 
     /**
-     * 메모리에서 트리 구조 구성
+     * 개별 카테고리들을 일괄 저장
+     * - batch-size 단위로 나누어 파이프라인 전송 (배치당 1회 왕복)
+     * - SET EX 로 값과 TTL을 한 명령에 저장하여 TTL 없는 키가 남지 않음
      */
-    private List<CategoryDto> buildCategoryTree(List<Category> allCategories) {
-        // 부모-자식 관계 맵 생성
-        Map<Long, List<Category>> parentChildMap = allCategories.stream()
-                .filter(c -> c.getParent() != null)
-                .collect(Collectors.groupingBy(c -> c.getParent().getId()));
+    private void saveCategoriesBatch(long targetGeneration, CategoryTreeSnapshot snapshot) {
+        List<Map.Entry<String, byte[]>> entries = new ArrayList<>(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            entries.add(Map.entry(CategoryCacheGeneration.nodeKey(targetGeneration, snapshot.id(i)),
+                    codec.encodeNode(snapshot.node(i))));
+        }
 
-        // 루트 카테고리들 찾기
-        List<Category> rootCategories = allCategories.stream()
-                .filter(c -> c.getParent() == null)
-                .sorted(Comparator.comparing(Category::getDisplayOrder))
-                .toList();
+        Duration ttl = Duration.ofHours(TTL_HOURS);
+        int batchSize = cacheProperties.getBulk().getBatchSize();
+        int saved = 0;
+        try {
+            while (saved < entries.size()) {
+                List<Map.Entry<String, byte[]>> batch =
+                        entries.subList(saved, Math.min(saved + batchSize, entries.size()));
+                cacheMetrics.getBulkTimer("set").record(() -> circuitBreaker.run(() -> setWithTtlPipelined(batch, ttl)));
+                saved += batch.size();
+            }
+            log.debug("개별 카테고리 일괄 저장 완료: {} 개", entries.size());
 
-        // 각 루트에 대해 트리 구성
-        return rootCategories.stream()
-                .map(root -> buildTreeRecursively(root, parentChildMap))
-                .collect(Collectors.toList());
+        } catch (RedisCircuitBreaker.CircuitOpenException e) {
+            log.warn("Redis 회로 열림 - 개별 카테고리 일괄 저장 중단: saved={}/{}", saved, entries.size());
+        } catch (Exception e) {
+            log.error("개별 카테고리 일괄 저장 실패: saved={}/{}", saved, entries.size(), e);
+            // 파이프라인 실패 시 남은 카테고리는 fallback으로 개별 저장
+            fallbackSaveCategories(entries.subList(saved, entries.size()), ttl);
+        }
+    }
+
+    private void setWithTtlPipelined(List<Map.Entry<String, byte[]>> batch, Duration ttl) {
+        categoryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ValueOperations<String, byte[]> valueOps =
+                        ((RedisOperations<String, byte[]>) operations).opsForValue();
+                for (Map.Entry<String, byte[]> entry : batch) {
+                    valueOps.set(entry.getKey(), entry.getValue(), ttl);
+                }
+                return null;
+            }
+        });
     }
 
     /**
-     * 재귀적으로 트리 구성 (메모리에서만 처리)
+     * 파이프라인 저장 실패 시 fallback 개별 저장
      */
-    private CategoryDto buildTreeRecursively(Category parent, Map<Long, List<Category>> parentChildMap) {
-        CategoryDto parentDto = CategoryDto.from(parent);
-
-        List<Category> children = parentChildMap.get(parent.getId());
-        if (children != null && !children.isEmpty()) {
-            List<CategoryDto> childDtos = children.stream()
-                    .sorted(Comparator.comparing(Category::getDisplayOrder))
-                    .map(child -> buildTreeRecursively(child, parentChildMap))
-                    .collect(Collectors.toList());
-            parentDto.setChildren(childDtos);
+    private void fallbackSaveCategories(List<Map.Entry<String, byte[]>> entries, Duration ttl) {
+        log.warn("파이프라인 저장 실패, 개별 저장으로 fallback: {} 개", entries.size());
+        for (Map.Entry<String, byte[]> entry : entries) {
+            try {
+                circuitBreaker.run(() -> categoryRedisTemplate.opsForValue().set(entry.getKey(), entry.getValue(), ttl));
+            } catch (RedisCircuitBreaker.CircuitOpenException e) {
+                // 남은 카테고리도 타임아웃까지 기다리지 않도록 중단 - 조회 시 트리/DB 에서 채움
+                log.warn("Redis 회로 열림 - Fallback 개별 저장 중단");
+                return;
+            } catch (Exception e) {
+                log.error("Fallback 개별 저장 실패: key={}", entry.getKey(), e);
+            }
         }
-
-        return parentDto;
     }
 
     /**
-     * 카테고리 수정 시 양쪽 캐시 업데이트
+     * 카테고리 생성/수정 시 양쪽 캐시 업데이트
+     * - 트리는 전체 무효화 대신 변경된 카테고리만 반영한 스냅샷으로 교체 (이동은 무효화 후 백그라운드 재구성)
+     * - 최신 트리가 없거나 트리가 알고 있는 이전 부모가 oldParentId 와 다르면 (트리가 이미 뒤처짐) 무효화
+     *
+     * @param oldParentId 수정 전 부모 id (생성, 최상위 카테고리는 null)
+     * @return 변경을 기록한 캐시 세대 - 다른 인스턴스에 전파할 때 사용 (CategoryChangeEvent)
      */
-    public void updateCategory(CategoryDto category, Long oldParentId) {
+    public long updateCategory(CategoryDto category, Long oldParentId) {
+        long writeGeneration = generation.refresh();
+
         // 1. 개별 캐시 업데이트
-        addCategory(category);
+        addCategory(writeGeneration, category);
 
-        // 2. 트리 캐시는 무효화 (다음 조회 시 재구성)
-        invalidateCategoryTree();
+        // 2. 트리 캐시에 변경 반영
+        boolean patched = patchTree("upsert", writeGeneration, upsertPatch(category, oldParentId));
+        if (!patched) {
+            invalidateCategoryTree();
+        }
 
-        log.debug("카테고리 업데이트: id={}, 트리 캐시 무효화", category.getId());
+        log.debug("카테고리 업데이트: id={}, parentId={} -> {}, 트리 {}", category.getId(), oldParentId,
+                category.getParentId(), patched ? "부분 반영" : "무효화");
+        return writeGeneration;
     }
 
     /**
      * 카테고리 삭제 시 양쪽 캐시에서 제거
+     *
+     * @return 변경을 기록한 캐시 세대 - 다른 인스턴스에 전파할 때 사용 (CategoryChangeEvent)
      */
-    public void removeCategory(CategoryDto category) {
+    public long removeCategory(CategoryDto category) {
+        long writeGeneration = generation.refresh();
+
         // 1. 개별 캐시에서 제거
-        String key = CATEGORY_KEY_PREFIX + category.getId();
+        localCache.evictCategory(category.getId());
+
         try {
-            categoryRedisTemplate.delete(key);
+            String key = CategoryCacheGeneration.nodeKey(writeGeneration, category.getId());
+            circuitBreaker.run(() -> categoryRedisTemplate.delete(key));
             log.debug("개별 카테고리 삭제: id={}", category.getId());
         } catch (Exception e) {
             log.error("개별 카테고리 삭제 실패: id={}", category.getId(), e);
         }
 
-        // 2. 트리 캐시 무효화
-        invalidateCategoryTree();
+        // 2. 트리 캐시에서 제거 (반영할 수 없으면 무효화)
+        if (!patchTree("remove", writeGeneration, removalPatch(category.getId()))) {
+            invalidateCategoryTree();
+        }
+        return writeGeneration;
     }
 
     /**
-     * 트리 캐시 무효화
+     * 다른 인스턴스의 변경 반영 (CategoryChangeBus) - Redis 는 발행 인스턴스가 이미 반영했으므로 L1 만 갱신
+     * - 변경이 기록된 세대가 이 인스턴스가 알고 있는 세대와 다르거나 RESYNC 이면 L1 전체 재동기화
+     * - 트리에 반영할 수 없으면 L1 트리만 무효화 (이전 트리로 응답하며 Redis 트리로 교체)
+     *
+     * @return 반영 결과 (patched, evicted, resync)
      */
-    public void invalidateCategoryTree() {
+    public String applyRemoteChange(CategoryChangeEvent event) {
+        if (event.type() == CategoryChangeEvent.Type.RESYNC || event.generation() != generation.current()) {
+            resyncLocal("remote");
+            return "resync";
+        }
+
+        CategoryLocalCache.TreePatch patch;
+        if (event.type() == CategoryChangeEvent.Type.UPSERT) {
+            localCache.putCategory(event.category());
+            patch = upsertPatch(event.category(), event.oldParentId());
+        } else {
+            event.ids().forEach(localCache::evictCategory);
+            patch = (current, version) -> {
+                CategoryTreeSnapshot patched = current;
+                for (Long id : event.ids()) {
+                    patched = patched.withRemoval(version, id);
+                }
+                return patched;
+            };
+        }
+
+        CategoryTreeSnapshot patched;
         try {
-            treeRedisTemplate.delete(CATEGORY_TREE_KEY);
-            log.debug("트리 캐시 무효화");
+            patched = localCache.patch(patch);
         } catch (Exception e) {
-            log.error("트리 캐시 무효화 실패", e);
+            log.error("다른 인스턴스 변경 반영 실패: type={}, ids={}", event.type(), event.ids(), e);
+            patched = null;
+        }
+        if (patched == null) {
+            localCache.evictTree();
+            return "evicted";
         }
+        return "patched";
     }
 
     /**
-     * 모든 캐시 초기화
+     * L1 전체 재동기화 - 놓친 변경이 있을 수 있으므로 개별/트리 모두 무효화하고 백그라운드에서 Redis 트리로 교체
      */
-    public void clearAllCache() {
-        try {
-            // 1. 개별 카테고리 키들 삭제
-            Set<String> categoryKeys = categoryRedisTemplate.keys(CATEGORY_KEY_PREFIX + "*");
-            if (categoryKeys != null && !categoryKeys.isEmpty()) {
-                categoryRedisTemplate.delete(categoryKeys);
+    public void resyncLocal(String trigger) {
+        log.warn("L1 캐시 재동기화: trigger={}", trigger);
+        localCache.clear();
+        refreshTreeAsync("resync");
+    }
+
+    /**
+     * 생성/수정 반영 - 트리가 알고 있는 이전 부모가 oldParentId 와 다르면 (트리가 이미 뒤처짐) 반영하지 않음
+     * 부모/형제 순서가 바뀌는 이동은 전체 배열 재구성이 필요하므로 요청 스레드(patch 모니터)에서 반영하지 않고
+     * 무효화하여 백그라운드 재구성 경로로 넘김 (생성은 리프 삽입, 내용 수정은 노드 교체로 반영)
+     */
+    private static CategoryLocalCache.TreePatch upsertPatch(CategoryDto category, Long oldParentId) {
+        return (current, version) -> {
+            int index = current.indexOf(category.getId());
+            if (index != CategoryTreeSnapshot.NOT_FOUND
+                    && !Objects.equals(current.node(index).getParentId(), oldParentId)) {
+                return null;
             }
+            if (current.isMove(category)) {
+                return null;
+            }
+            return current.withUpsert(version, category);
+        };
+    }
+
+    private static CategoryLocalCache.TreePatch removalPatch(long id) {
+        return (current, version) -> current.withRemoval(version, id);
+    }
+
+    /**
+     * 트리 부분 반영 - L1 스냅샷을 교체하고 같은 세대의 Redis 트리를 compare-and-set 으로 교체
+     * - Redis 트리는 키가 남아 있고 트리 내용 해시가 반영을 시작한 L1 스냅샷과 같을 때만 TTL 을 유지한 채 교체
+     *   (무효화된 트리를 되살리지 않고, 만료 전 재구성 주기도 그대로 유지)
+     * - 해시가 다르면 (다른 인스턴스의 동시 변경이 먼저 기록됨) 덮어쓰지 않고 트리를 제거 - 다음 조회에서 DB 기준으로 재구성
+     * - 그 사이 다른 인스턴스가 세대를 교체했으면 반영하지 않음 (false - 호출 측에서 무효화)
+     *
+     * @param knownGeneration 개별 카테고리를 기록한 세대
+     */
+    private boolean patchTree(String operation, long knownGeneration, CategoryLocalCache.TreePatch patch) {
+        AtomicReference<CategoryTreeSnapshot> base = new AtomicReference<>();
+        CategoryTreeSnapshot patched;
+        try {
+            patched = localCache.patch((current, version) -> {
+                base.set(current);
+                return patch.apply(current, version);
+            });
+        } catch (Exception e) {
+            log.error("트리 부분 반영 실패: operation={}", operation, e);
+            patched = null;
+        }
+        if (patched == null) {
+            cacheMetrics.patch(operation, "fallback");
+            return false;
+        }
 
-            // 2. 트리 캐시 삭제
-            treeRedisTemplate.delete(CATEGORY_TREE_KEY);
+        try {
+            long currentGeneration = generation.refresh();
+            if (currentGeneration != knownGeneration) {
+                cacheMetrics.patch(operation, "fallback");
+                return false;
+            }
 
-            log.info("모든 카테고리 캐시 삭제 완료");
+            byte[] tree = codec.encodeTree(patched);
+            List<String> keys = List.of(CategoryCacheGeneration.treeKey(currentGeneration),
+                    CategoryCacheGeneration.treeHashKey(currentGeneration));
+            Long result = circuitBreaker.execute(() -> treeRedisTemplate.execute(PATCH_TREE_SCRIPT, keys,
+                    treeHash(base.get()), treeHash(patched), tree));
+            if (result != null && result == 0) {
+                log.warn("Redis 트리 동시 변경 감지 - 트리 제거 후 재구성: operation={}, version={}",
+                        operation, patched.getVersion());
+                cacheMetrics.patch(operation, "conflict");
+                return true;
+            }
+            log.debug("트리 부분 반영: operation={}, version={}, redis={}", operation, patched.getVersion(),
+                    result != null && result == 1 ? "replaced" : "absent");
 
         } catch (Exception e) {
-            log.error("전체 캐시 삭제 실패", e);
+            // L1 은 이미 반영됨 - Redis 트리는 이전 내용이므로 제거하여 다음 조회 시 재구성
+            log.error("Redis 트리 부분 반영 실패: operation={}", operation, e);
+            unlinkTree();
         }
+        cacheMetrics.patch(operation, "patched");
+        return true;
     }
 
     /**
-     * 캐시 상태 확인
+     * 트리 캐시 무효화
      */
-    public boolean isCacheEmpty() {
+    public void invalidateCategoryTree() {
+        localCache.evictTree();
+        unlinkTree();
+    }
+
+    private static byte[] treeHash(CategoryTreeSnapshot snapshot) {
+        return Long.toHexString(snapshot.contentHash()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void unlinkTree() {
         try {
-            List<CategoryDto> tree = getCategoryTree();
-            return tree.isEmpty();
+            // 트리 값은 크기가 크므로 메모리 해제는 Redis 백그라운드 스레드에 위임
+            long currentGeneration = generation.refresh();
+            List<String> keys = List.of(CategoryCacheGeneration.treeKey(currentGeneration),
+                    CategoryCacheGeneration.treeHashKey(currentGeneration));
+            circuitBreaker.run(() -> treeRedisTemplate.unlink(keys));
+            log.debug("트리 캐시 무효화");
         } catch (Exception e) {
-            return true;
+            log.error("트리 캐시 무효화 실패", e);
         }
     }
 
     /**
-     * CategoryDto -> CategoryResponse 변환
+     * 모든 캐시 초기화
+     * 1) 빈 세대로 포인터 교체 - 모든 인스턴스의 다음 조회부터 새 세대 기준 (키 개수와 무관하게 O(1))
+     * 2) 이전 세대 키 정리 - 커서 기반 SCAN, 배치 단위 UNLINK
      */
-    private CategoryResponse convertToCategoryResponse(CategoryDto dto) {
-        CategoryResponse response = CategoryResponse.builder()
-                .id(dto.getId())
-                .name(dto.getName())
-                .description(dto.getDescription())
-                .code(dto.getCode())
-                .storeCode(dto.getStoreCode())
-                .storeTitle(dto.getStoreTitle())
-                .groupTitle(dto.getGroupTitle())
-                .displayOrder(dto.getDisplayOrder())
-                .genderFilter(dto.getGenderFilter())
-                .parentId(dto.getParentId())
-                .parentName(dto.getParentName())
-                .createdAt(dto.getCreatedAt())
-                .updatedAt(dto.getUpdatedAt())
-                .isRoot(dto.getParentId() == null)
-                .leaf(dto.getChildren() == null || dto.getChildren().isEmpty())
-                .build();
+    public void clearAllCache() {
+        localCache.clear();
 
-        if (dto.getChildren() != null) {
-            List<CategoryResponse> childResponses = dto.getChildren().stream()
-                    .map(this::convertToCategoryResponse)
-                    .collect(Collectors.toList());
-            response.setChildren(childResponses);
-        }
+        try {
+            long emptyGeneration = generation.next();
+            generation.activate(emptyGeneration);
 
-        return response;
+            long removed = purgeGenerationsExcept(generation.current());
+            log.info("모든 카테고리 캐시 삭제 완료: generation={}, 이전 세대 {} 개 키 삭제", emptyGeneration, removed);
+
+        } catch (Exception e) {
+            log.error("전체 캐시 삭제 실패", e);
+        }
     }
 
-    /**
-     * CategoryResponse -> CategoryDto 변환
-     */
-    private CategoryDto convertToCategoryDto(CategoryResponse response) {
-        CategoryDto dto = CategoryDto.builder()
-                .id(response.getId())
-                .name(response.getName())
-                .description(response.getDescription())
-                .code(response.getCode())
-                .storeCode(response.getStoreCode())
-                .storeTitle(response.getStoreTitle())
-                .groupTitle(response.getGroupTitle())
-                .displayOrder(response.getDisplayOrder())
-                .genderFilter(response.getGenderFilter())
-                .parentId(response.getParentId())
-                .parentName(response.getParentName())
-                .createdAt(response.getCreatedAt())
-                .updatedAt(response.getUpdatedAt())
+    private long purgeGenerationsExcept(long keepGeneration) {
+        int batchSize = cacheProperties.getBulk().getBatchSize();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(CategoryCacheGeneration.KEY_PREFIX + "*")
+                .count(batchSize)
                 .build();
 
-        if (response.getChildren() != null) {
-            List<CategoryDto> childDtos = response.getChildren().stream()
-                    .map(this::convertToCategoryDto)
-                    .collect(Collectors.toList());
-            dto.setChildren(childDtos);
+        long removed = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        try (Cursor<String> cursor = categoryRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                // 포인터, 세대 시퀀스, 재구성 임대 등 세대 키가 아닌 키는 유지
+                Long keyGeneration = CategoryCacheGeneration.generationOf(key);
+                if (keyGeneration == null || keyGeneration == keepGeneration) {
+                    continue;
+                }
+                batch.add(key);
+                if (batch.size() >= batchSize) {
+                    removed += unlinkBatch(batch);
+                    batch.clear();
+                }
+            }
         }
-
-        return dto;
+        return removed + unlinkBatch(batch);
     }
 
-    // 기존 메서드들 호환성을 위해 유지
-    public List<CategoryDto> getChildCategories(Long parentId) {
-        // 전체 트리에서 해당 부모의 자식들 찾기
-        List<CategoryDto> tree = getCategoryTree();
-        CategoryDto parent = findCategoryInTree(tree, parentId);
-
-        if (parent != null && parent.getChildren() != null) {
-            return parent.getChildren();
+    private long unlinkBatch(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
         }
+        Long removed = cacheMetrics.getBulkTimer("unlink").record(() -> categoryRedisTemplate.unlink(keys));
+        return removed != null ? removed : 0;
+    }
 
-        return Collections.emptyList();
+    /**
+     * 캐시 상태 확인
+     */
+    public boolean isCacheEmpty() {
+        try {
+            CategoryTreeSnapshot snapshot = getTreeSnapshot();
+            return snapshot == null || snapshot.isEmpty();
+        } catch (Exception e) {
+            return true;
+        }
     }
 
-    private CategoryDto findCategoryInTree(List<CategoryDto> tree, Long targetId) {
-        for (CategoryDto category : tree) {
-            if (category.getId().equals(targetId)) {
-                return category;
-            }
+    /**
+     * 하위 카테고리 조회 - 스냅샷 id 색인 사용 (트리 전체 탐색 없음)
+     */
+    public List<CategoryDto> getChildCategories(Long parentId) {
+        CategoryTreeSnapshot snapshot = getTreeSnapshot();
+        if (snapshot == null) {
+            return Collections.emptyList();
+        }
 
-            if (category.getChildren() != null) {
-                CategoryDto found = findCategoryInTree(category.getChildren(), targetId);
-                if (found != null) {
-                    return found;
-                }
-            }
+        int index = snapshot.indexOf(parentId);
+        if (index == CategoryTreeSnapshot.NOT_FOUND) {
+            return Collections.emptyList();
         }
-        return null;
+        return snapshot.childDtoTrees(index);
     }
 
     public List<CategoryDto> getAllActiveCategories() {
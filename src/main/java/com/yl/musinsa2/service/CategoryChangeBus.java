@@ -0,0 +1,135 @@
+package com.yl.musinsa2.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yl.musinsa2.cache.CategoryCacheMetrics;
+import com.yl.musinsa2.cache.CategoryChangeEvent;
+import com.yl.musinsa2.cache.RedisCircuitBreaker;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 카테고리 변경 전파 (Redis Pub/Sub)
+ * - 발행: CategoryService 가 커밋 후 발행한 CategoryChangeEvent (변경을 기록한 세대 포함) 를 순번을 붙여 채널로 전송
+ * - 수신: 다른 인스턴스의 변경을 L1 에 반영 (개별 카테고리 교체/제거, 트리 부분 반영)
+ * - 순번은 발행 인스턴스(origin)별로 1씩 증가 - 건너뛴 순번이 있으면 놓친 변경이 있으므로 L1 전체 재동기화
+ * - Pub/Sub 은 전달을 보장하지 않으므로 놓친 변경은 다음 메시지에서 감지되며,
+ *   그 전까지는 L1 갱신 주기(refresh-after)와 세대 확인(refresh-ahead)이 상한
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "category.cache.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CategoryChangeBus implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CategoryCacheService categoryCache;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final CategoryCacheMetrics cacheMetrics;
+    private final CategoryCacheProperties cacheProperties;
+
+    // 이 인스턴스의 발행 식별자 - 재시작하면 순번이 새로 시작되므로 인스턴스마다 새로 발급
+    private final String origin = UUID.randomUUID().toString();
+    private long sequence;
+
+    // 발행 인스턴스별 마지막 수신 순번 - 종료된 인스턴스 항목은 마지막 수신 후 보관 시간이 지나면 제거
+    private final Cache<String, Long> lastSequences;
+
+    /**
+     * 변경 메시지 (채널 전송 형식) - 변경이 기록된 캐시 세대는 event.generation()
+     *
+     * @param publishedAt 발행 시각 (epoch millis) - 전파 지연 지표용
+     */
+    public record ChangeMessage(String origin, long sequence, long publishedAt, CategoryChangeEvent event) {
+    }
+
+    public CategoryChangeBus(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                             CategoryCacheService categoryCache, RedisCircuitBreaker circuitBreaker,
+                             CategoryCacheMetrics cacheMetrics, CategoryCacheProperties cacheProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.categoryCache = categoryCache;
+        this.circuitBreaker = circuitBreaker;
+        this.cacheMetrics = cacheMetrics;
+        this.cacheProperties = cacheProperties;
+
+        CategoryCacheProperties.Invalidation invalidation = cacheProperties.getInvalidation();
+        this.lastSequences = Caffeine.newBuilder()
+                .maximumSize(invalidation.getMaximumOrigins())
+                .expireAfterAccess(invalidation.getOriginRetention())
+                .build();
+    }
+
+    /**
+     * 변경 발행 - 순번 발급과 전송을 하나씩 수행하여 순번 순서대로 전송
+     * 전송에 실패해도 순번은 소비되므로 수신 측은 다음 메시지에서 누락을 감지
+     */
+    @EventListener
+    public synchronized void publish(CategoryChangeEvent event) {
+        ChangeMessage message = new ChangeMessage(origin, ++sequence, System.currentTimeMillis(), event);
+        try {
+            String body = objectMapper.writeValueAsString(message);
+            circuitBreaker.execute(() ->
+                    stringRedisTemplate.convertAndSend(cacheProperties.getInvalidation().getChannel(), body));
+            cacheMetrics.change("published");
+            log.debug("카테고리 변경 발행: sequence={}, type={}, ids={}", message.sequence(), event.type(), event.ids());
+
+        } catch (Exception e) {
+            log.error("카테고리 변경 발행 실패: sequence={}, type={}, ids={}", message.sequence(), event.type(),
+                    event.ids(), e);
+            cacheMetrics.change("publish-failed");
+        }
+    }
+
+    /**
+     * 변경 수신 - 리스너 컨테이너가 수신 순서대로 하나씩 전달 (RedisConfig)
+     */
+    @Override
+    public synchronized void onMessage(Message message, byte[] pattern) {
+        ChangeMessage change;
+        try {
+            change = objectMapper.readValue(message.getBody(), ChangeMessage.class);
+        } catch (Exception e) {
+            // 어떤 변경인지 알 수 없으므로 전체 재동기화
+            log.error("카테고리 변경 메시지 해석 실패", e);
+            cacheMetrics.change("unreadable");
+            categoryCache.resyncLocal("unreadable");
+            return;
+        }
+
+        // 발행 인스턴스는 커밋 직후 이미 반영함
+        if (origin.equals(change.origin())) {
+            return;
+        }
+        cacheMetrics.changeLag(System.currentTimeMillis() - change.publishedAt());
+
+        Long previous = lastSequences.getIfPresent(change.origin());
+        if (previous != null && change.sequence() <= previous) {
+            cacheMetrics.change("duplicate");
+            return;
+        }
+        lastSequences.put(change.origin(), change.sequence());
+
+        if (previous != null && change.sequence() != previous + 1) {
+            log.warn("카테고리 변경 메시지 누락: origin={}, expected={}, received={}", change.origin(), previous + 1,
+                    change.sequence());
+            cacheMetrics.change("gap");
+            categoryCache.resyncLocal("gap");
+            return;
+        }
+
+        String result = categoryCache.applyRemoteChange(change.event());
+        cacheMetrics.change(result);
+        log.debug("카테고리 변경 수신: origin={}, sequence={}, type={}, ids={}, result={}", change.origin(),
+                change.sequence(), change.event().type(), change.event().ids(), result);
+    }
+}
@@ -1,6 +1,14 @@
 package com.yl.musinsa2.service;
 
+import com.yl.musinsa2.cache.CategoryChangeEvent;
+import com.yl.musinsa2.cache.CategoryFuzzyIndex;
+import com.yl.musinsa2.cache.CategorySearchIndex;
+import com.yl.musinsa2.cache.CategorySearchResultCache;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.config.CategorySearchProperties;
+import com.yl.musinsa2.dto.CategoryAutocompleteResponse;
 import com.yl.musinsa2.dto.CategoryCreateRequest;
+import com.yl.musinsa2.dto.CategoryDescendantsResponse;
 import com.yl.musinsa2.dto.CategoryDto;
 import com.yl.musinsa2.dto.CategoryResponse;
 import com.yl.musinsa2.dto.CategoryUpdateRequest;
@@ -9,12 +17,23 @@ import com.yl.musinsa2.repository.CategoryRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -22,88 +41,335 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CategoryService {
 
+    // 자동완성 결과 최대 개수
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+
+    // 여러 카테고리 조회 최대 개수
+    public static final int MAX_BATCH_SIZE = 500;
+
     private final CategoryRepository categoryRepository;
     private final CategoryCacheService categoryCache;
     private final CategoryCacheInitializer cacheInitializer;
+    private final CategorySearchProperties searchProperties;
+    private final CategorySearchResultCache searchResultCache;
+    private final CategoryTreeRenderer treeRenderer;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 개별 카테고리 조회 - category:id 사용
+     * 개별 카테고리 조회 - 트리 스냅샷 -> category:id -> DB 순서
      */
     @Transactional(readOnly = true)
     public CategoryResponse getCategoryById(Long id) {
-        // 1. 개별 캐시에서 조회
+        // 1. 트리 스냅샷에서 조회 (하위 포함, 서브트리 크기만큼만 변환)
+        CategoryTreeSnapshot snapshot = categoryCache.getTreeSnapshot();
+        if (snapshot != null) {
+            int index = snapshot.indexOf(id);
+            if (index != CategoryTreeSnapshot.NOT_FOUND) {
+                return snapshot.toResponseTree(index);
+            }
+        }
+
+        // 2. 개별 캐시에서 조회 (트리에 아직 반영되지 않은 카테고리)
         CategoryDto categoryDto = categoryCache.getCategory(id);
 
         if (categoryDto != null) {
-            List<CategoryDto> children = categoryCache.getChildCategories(id);
-            categoryDto.setChildren(children);
             return CategoryResponse.convertToResponseWithChildren(categoryDto);
         }
 
-        // 2. 캐시 미스 시 DB에서 조회
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + id));
+        // 3. 캐시 미스 시 DB에서 서브트리를 평면 목록으로 1회 조회 (엔티티 그래프 로딩 없음)
+        List<CategoryDto> subtree = categoryRepository.findSubtreeFlat(id);
+        if (subtree.isEmpty()) {
+            throw new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + id);
+        }
 
-        CategoryResponse response = CategoryResponse.fromWithChildren(category);
+        CategoryTreeSnapshot subtreeSnapshot = CategoryTreeSnapshot.buildSubtree(0L, id, subtree);
+        int rootIndex = subtreeSnapshot.indexOf(id);
 
-        // 3. 캐시에 저장
-        CategoryDto dto = CategoryDto.from(category);
-        categoryCache.addCategory(dto);
+        // 4. 캐시에 저장
+        categoryCache.addCategory(subtreeSnapshot.node(rootIndex));
 
-        return response;
+        return subtreeSnapshot.toResponseTree(rootIndex);
     }
 
     /**
-     * 전체 카테고리 트리 조회 - category:tree 사용
+     * 여러 카테고리 조회 (하위 미포함) - 요청 순서대로 반환, 중복 id 는 한 번만, 없는 id 는 제외
+     * 트리 스냅샷 -> L1/category:id MGET 1회 -> DB 1회 조회 순서, DB 에서 읽은 카테고리는 파이프라인 1회로 캐시에 저장
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryResponse> getCategoriesByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new IllegalStateException("한 번에 조회할 수 있는 카테고리는 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+
+        // 1. 트리 스냅샷에서 조회
+        Map<Long, CategoryResponse> found = new HashMap<>(requested.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        CategoryTreeSnapshot snapshot = categoryCache.getTreeSnapshot();
+        for (Long id : requested) {
+            int index = snapshot != null ? snapshot.indexOf(id) : CategoryTreeSnapshot.NOT_FOUND;
+            if (index != CategoryTreeSnapshot.NOT_FOUND) {
+                found.put(id, snapshot.toResponse(index));
+            } else {
+                missing.add(id);
+            }
+        }
+
+        // 2. 개별 캐시에서 조회 (트리에 아직 반영되지 않은 카테고리)
+        if (!missing.isEmpty()) {
+            Map<Long, CategoryDto> cached = categoryCache.getCategories(missing);
+            cached.forEach((id, dto) -> found.put(id, CategoryResponse.convertToResponse(dto)));
+
+            // 3. 캐시 미스는 DB에서 한 번에 조회 후 캐시에 저장
+            List<Long> unresolved = missing.stream()
+                    .filter(id -> !cached.containsKey(id))
+                    .toList();
+            if (!unresolved.isEmpty()) {
+                List<CategoryDto> loaded = categoryRepository.findAllFlatByIds(unresolved);
+                loaded.forEach(dto -> found.put(dto.getId(), CategoryResponse.convertToResponse(dto)));
+                categoryCache.addCategories(loaded);
+            }
+        }
+
+        return requested.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 전체 카테고리 트리 조회 - 트리 스냅샷 사용
      */
     @Transactional(readOnly = true)
     public List<CategoryResponse> getCategoryTree() {
-        // 1. 트리 캐시에서 조회
-        List<CategoryDto> tree = categoryCache.getCategoryTree();
+        return getTreeSnapshot().toResponseTree();
+    }
 
-        if (!tree.isEmpty()) {
-            return tree.stream()
-                    .map(CategoryResponse::convertToResponseWithChildren)
-                    .collect(Collectors.toList());
+    /**
+     * 전체 카테고리 트리 JSON - 트리 버전별로 한 번만 직렬화/압축한 바이트와 ETag
+     */
+    @Transactional(readOnly = true)
+    public CategoryTreeRenderer.RenderedJson getCategoryTreeJson() {
+        return treeRenderer.render(getTreeSnapshot());
+    }
+
+    /**
+     * 개별 카테고리 JSON (하위 정보 포함) - 트리 스냅샷에 있는 카테고리만 렌더링 결과를 보관하고 ETag 발급
+     */
+    @Transactional(readOnly = true)
+    public CategoryTreeRenderer.RenderedJson getCategoryJson(Long id) {
+        CategoryTreeSnapshot snapshot = categoryCache.getTreeSnapshot();
+        if (snapshot != null) {
+            int index = snapshot.indexOf(id);
+            if (index != CategoryTreeSnapshot.NOT_FOUND) {
+                return treeRenderer.renderSubtree(snapshot, index);
+            }
         }
+        return treeRenderer.renderUncached(getCategoryById(id));
+    }
 
-        // 2. 캐시 미스 시 DB에서 로딩
-        List<CategoryDto> loadedTree = categoryCache.loadAndCacheFromDB();
-        return loadedTree.stream()
-                .map(CategoryResponse::convertToResponseWithChildren)
-                .collect(Collectors.toList());
+    /**
+     * 개별 카테고리 (ETag 포함) - 트리 스냅샷에 있는 카테고리만 ETag 발급
+     */
+    private ETagged<CategoryResponse> getCategoryByIdWithETag(Long id) {
+        CategoryTreeSnapshot snapshot = categoryCache.getTreeSnapshot();
+        if (snapshot != null) {
+            int index = snapshot.indexOf(id);
+            if (index != CategoryTreeSnapshot.NOT_FOUND) {
+                String eTag = CategoryTreeRenderer.snapshotETag(snapshot, "category", id);
+                return new ETagged<>(eTag, () -> snapshot.toResponseTree(index));
+            }
+        }
+        return ETagged.untagged(() -> getCategoryById(id));
     }
 
     /**
-     * 카테고리 검색 - 트리에서 필터링
+     * 카테고리 경로 (브레드크럼) - 루트부터 카테고리까지 (하위 미포함)
+     * 트리 스냅샷에 미리 계산된 경로로 O(깊이) 조회, 카테고리별 DB 조회 없음
+     * 트리에 아직 반영되지 않은 카테고리는 DB 에서 tree_path 로 1회 조회
      */
     @Transactional(readOnly = true)
-    public List<CategoryResponse> searchCategoriesTree(String name) {
-        List<CategoryResponse> tree = getCategoryTree();
+    public List<CategoryResponse> getCategoryPath(Long id) {
+        CategoryTreeSnapshot snapshot = getTreeSnapshot();
+        int index = snapshot.indexOf(id);
+        return index != CategoryTreeSnapshot.NOT_FOUND ? snapshot.toPathResponse(index) : getCategoryPathFromDB(id);
+    }
 
-        if (name == null || name.trim().isEmpty()) {
-            return tree;
+    /**
+     * 카테고리 경로 (ETag 포함) - 트리 스냅샷에 있는 카테고리만 스냅샷 내용 해시에서 파생
+     */
+    @Transactional(readOnly = true)
+    public ETagged<List<CategoryResponse>> getCategoryPathWithETag(Long id) {
+        CategoryTreeSnapshot snapshot = getTreeSnapshot();
+        int index = snapshot.indexOf(id);
+        if (index == CategoryTreeSnapshot.NOT_FOUND) {
+            return ETagged.untagged(() -> getCategoryPathFromDB(id));
+        }
+
+        String eTag = CategoryTreeRenderer.snapshotETag(snapshot, "path", id);
+        return new ETagged<>(eTag, () -> snapshot.toPathResponse(index));
+    }
+
+    private List<CategoryResponse> getCategoryPathFromDB(Long id) {
+        List<CategoryDto> ancestors = categoryRepository.findAncestorsFlat(id);
+        if (ancestors.isEmpty()) {
+            throw new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + id);
+        }
+
+        List<CategoryResponse> path = new ArrayList<>(ancestors.size());
+        for (CategoryDto ancestor : ancestors) {
+            CategoryResponse response = CategoryResponse.convertToResponse(ancestor);
+            // 마지막(자신)을 제외한 경로상의 카테고리는 하위가 있음
+            response.setLeaf(path.size() == ancestors.size() - 1 && response.isLeaf());
+            path.add(response);
+        }
+        return path;
+    }
+
+    /**
+     * 하위 카테고리 id (ETag 포함) - 트리 스냅샷의 전위 순서 구간에서 조회, 본문이 필요할 때만 정렬 (ETag 일치 시 생략)
+     *
+     * @param leafOnly 하위가 없는 카테고리만
+     * @param delta    차분 인코딩 (정렬된 id 의 간격은 작으므로 JSON 이 짧아짐)
+     */
+    @Transactional(readOnly = true)
+    public ETagged<CategoryDescendantsResponse> getDescendantIdsWithETag(Long id, boolean leafOnly, boolean delta) {
+        CategoryTreeSnapshot snapshot = getTreeSnapshot();
+        int index = indexOfOrThrow(snapshot, id);
+
+        String eTag = CategoryTreeRenderer.snapshotETag(snapshot, "descendants", id, leafOnly, delta);
+        return new ETagged<>(eTag, () -> {
+            long[] ids = snapshot.descendantIds(index, leafOnly);
+            return CategoryDescendantsResponse.builder()
+                    .id(id)
+                    .leafOnly(leafOnly)
+                    .delta(delta)
+                    .count(ids.length)
+                    .ids(delta ? deltaEncode(ids) : ids)
+                    .build();
+        });
+    }
+
+    /**
+     * 하위 카테고리 여부 - 트리 스냅샷의 전위 순서 구간 포함 여부로 O(1) 판단 (자신은 하위가 아님)
+     */
+    @Transactional(readOnly = true)
+    public boolean isDescendant(Long ancestorId, Long id) {
+        CategoryTreeSnapshot snapshot = getTreeSnapshot();
+        return snapshot.isDescendant(indexOfOrThrow(snapshot, id), indexOfOrThrow(snapshot, ancestorId));
+    }
+
+    private static long[] deltaEncode(long[] sortedIds) {
+        long[] encoded = new long[sortedIds.length];
+        long previous = 0;
+        for (int i = 0; i < sortedIds.length; i++) {
+            encoded[i] = sortedIds[i] - previous;
+            previous = sortedIds[i];
+        }
+        return encoded;
+    }
+
+    private static int indexOfOrThrow(CategoryTreeSnapshot snapshot, Long id) {
+        int index = snapshot.indexOf(id);
+        if (index == CategoryTreeSnapshot.NOT_FOUND) {
+            throw new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + id);
         }
+        return index;
+    }
 
-        return filterCategoryTree(tree, name);
+    /**
+     * 카테고리 검색 - 이름/스토어명/그룹명 색인으로 일치 노드를 찾고 일치 노드와 조상만으로 트리 구성
+     * 초성("ㅌㅅㅊ")과 입력 중인 마지막 음절("티셔ㅊ")도 검색 가능
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryResponse> searchCategoriesTree(String name) {
+        return searchCategoriesTree(name, false);
     }
 
     /**
-     * 특정 카테고리의 서브트리 검색
+     * 카테고리 검색 - fuzzy 이면 오타 허용 일치("스니커스" -> 스니커즈)도 결과에 포함
+     * 결과는 (트리 버전, 검색어, fuzzy) 단위로 캐시
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryResponse> searchCategoriesTree(String name, boolean fuzzy) {
+        return searchTree(getTreeSnapshot(), name, fuzzy);
+    }
+
+    /**
+     * 카테고리 검색 (ETag 포함) - ETag 는 트리 내용과 검색 조건으로 결정되므로 결과를 만들지 않고 비교 가능
+     */
+    @Transactional(readOnly = true)
+    public ETagged<List<CategoryResponse>> searchCategoriesTreeWithETag(String name, boolean fuzzy) {
+        CategoryTreeSnapshot snapshot = getTreeSnapshot();
+        String eTag = CategoryTreeRenderer.snapshotETag(snapshot, "search", CategorySearchIndex.normalize(name), fuzzy);
+        return new ETagged<>(eTag, () -> searchTree(snapshot, name, fuzzy));
+    }
+
+    /**
+     * 특정 카테고리의 서브트리 검색 - 서브트리 범위 안에서만 색인 검색 (결과는 트리 버전별로 캐시)
      */
     @Transactional(readOnly = true)
     public CategoryResponse searchCategorySubTree(Long categoryId, String name) {
-        CategoryResponse baseCategory = getCategoryById(categoryId);
+        if (name == null || name.trim().isEmpty()) {
+            return getCategoryById(categoryId);
+        }
+
+        CategoryTreeSnapshot snapshot = getTreeSnapshot();
+        int index = snapshot.indexOf(categoryId);
+        if (index == CategoryTreeSnapshot.NOT_FOUND) {
+            // 트리에 아직 반영되지 않은 카테고리 - 조회 결과를 직접 필터링
+            return filterSingleCategoryTree(getCategoryById(categoryId), name);
+        }
+        return searchSubTree(snapshot, index, name);
+    }
 
+    /**
+     * 특정 카테고리의 서브트리 검색 (ETag 포함) - 트리 스냅샷에 있는 카테고리만 ETag 발급
+     */
+    @Transactional(readOnly = true)
+    public ETagged<CategoryResponse> searchCategorySubTreeWithETag(Long categoryId, String name) {
         if (name == null || name.trim().isEmpty()) {
-            return baseCategory;
+            return getCategoryByIdWithETag(categoryId);
+        }
+
+        CategoryTreeSnapshot snapshot = getTreeSnapshot();
+        int index = snapshot.indexOf(categoryId);
+        if (index == CategoryTreeSnapshot.NOT_FOUND) {
+            return ETagged.untagged(() -> filterSingleCategoryTree(getCategoryById(categoryId), name));
+        }
+
+        String eTag = CategoryTreeRenderer.snapshotETag(snapshot, "search", categoryId,
+                CategorySearchIndex.normalize(name));
+        return new ETagged<>(eTag, () -> searchSubTree(snapshot, index, name));
+    }
+
+    /**
+     * 카테고리 자동완성 - 이름(단어 시작, 초성, 입력 중인 음절)과 코드의 접두어 일치
+     * 깊이 -> displayOrder 순으로 상위 limit 개, 각 결과에 상위 경로 포함
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryAutocompleteResponse> autocomplete(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            return Collections.emptyList();
         }
 
-        return filterSingleCategoryTree(baseCategory, name);
+        CategoryTreeSnapshot snapshot = getTreeSnapshot();
+        int[] matches = snapshot.prefixIndex().search(query, Math.min(Math.max(limit, 1), MAX_AUTOCOMPLETE_LIMIT));
+
+        List<CategoryAutocompleteResponse> result = new ArrayList<>(matches.length);
+        for (int index : matches) {
+            result.add(toAutocompleteResponse(snapshot, index));
+        }
+        return result;
     }
 
     /**
-     * 카테고리 생성 - 양쪽 캐시 업데이트
+     * 카테고리 생성 - 커밋 후 양쪽 캐시 업데이트
      */
     public CategoryResponse createCategory(CategoryCreateRequest request) {
         Category category = Category.builder()
@@ -120,21 +386,29 @@ public class CategoryService {
         if (request.getParentId() != null) {
             Category parent = categoryRepository.findById(request.getParentId())
                     .orElseThrow(() -> new EntityNotFoundException("부모 카테고리를 찾을 수 없습니다. ID: " + request.getParentId()));
+            // 경로 길이는 저장 전에 확인 - 엔티티 콜백에서 실패하면 스프링 예외로 감싸져 400 이 아닌 500 으로 응답됨
+            if (!parent.canAddChild()) {
+                throw new IllegalStateException("카테고리 트리가 너무 깊어 하위 카테고리를 추가할 수 없습니다. 부모 ID: "
+                        + parent.getId());
+            }
             category.setParent(parent);
         }
 
         Category savedCategory = categoryRepository.save(category);
         CategoryResponse response = CategoryResponse.from(savedCategory);
 
-        // 양쪽 캐시 업데이트
+        // 커밋 후 양쪽 캐시 업데이트 및 다른 인스턴스에 전파
         CategoryDto categoryDto = CategoryDto.from(savedCategory);
-        categoryCache.updateCategory(categoryDto, null);
+        afterCommit(() -> {
+            long written = categoryCache.updateCategory(categoryDto, null);
+            eventPublisher.publishEvent(CategoryChangeEvent.upsert(categoryDto, null, written));
+        });
 
         return response;
     }
 
     /**
-     * 카테고리 수정 - 양쪽 캐시 업데이트
+     * 카테고리 수정 - 커밋 후 양쪽 캐시 업데이트
      */
     public CategoryResponse updateCategory(Long id, CategoryUpdateRequest request) {
         Category category = categoryRepository.findById(id)
@@ -148,15 +422,18 @@ public class CategoryService {
         Category updatedCategory = categoryRepository.save(category);
         CategoryResponse response = CategoryResponse.from(updatedCategory);
 
-        // 양쪽 캐시 업데이트
+        // 커밋 후 양쪽 캐시 업데이트 및 다른 인스턴스에 전파
         CategoryDto categoryDto = CategoryDto.from(updatedCategory);
-        categoryCache.updateCategory(categoryDto, oldParentId);
+        afterCommit(() -> {
+            long written = categoryCache.updateCategory(categoryDto, oldParentId);
+            eventPublisher.publishEvent(CategoryChangeEvent.upsert(categoryDto, oldParentId, written));
+        });
 
         return response;
     }
 
     /**
-     * 카테고리 삭제 - 양쪽 캐시에서 제거
+     * 카테고리 삭제 - 커밋 후 양쪽 캐시에서 제거
      */
     public void deleteCategory(Long id) {
         Category category = categoryRepository.findById(id)
@@ -170,32 +447,129 @@ public class CategoryService {
 
         categoryRepository.delete(category);
 
-        // 양쪽 캐시에서 제거
-        categoryCache.removeCategory(categoryDto);
+        // 커밋 후 양쪽 캐시에서 제거 및 다른 인스턴스에 전파
+        afterCommit(() -> {
+            long written = categoryCache.removeCategory(categoryDto);
+            eventPublisher.publishEvent(CategoryChangeEvent.remove(categoryDto.getId(), written));
+        });
     }
 
     /**
-     * 캐시 수동 갱신
+     * 커밋 후 실행 - 롤백된 변경이 캐시와 다른 인스턴스에 반영되지 않도록 함
+     * 트랜잭션 밖에서 호출되면 바로 실행
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 트리 스냅샷 조회 - 모든 트리 기반 조회가 공유하는 읽기 모델
+     */
+    private CategoryTreeSnapshot getTreeSnapshot() {
+        // 1. 트리 캐시(L1 -> L2)에서 조회
+        CategoryTreeSnapshot snapshot = categoryCache.getTreeSnapshot();
+
+        if (snapshot != null && !snapshot.isEmpty()) {
+            return snapshot;
+        }
+
+        // 2. 캐시 미스 시 DB에서 로딩
+        return categoryCache.loadAndCacheFromDB();
+    }
+
+    /**
+     * 캐시 수동 갱신 - 다른 인스턴스도 새 세대 트리로 L1 재동기화
      */
     public void refreshCache() {
         cacheInitializer.reinitializeCache();
+        eventPublisher.publishEvent(CategoryChangeEvent.resync());
+    }
+
+    private List<CategoryResponse> searchTree(CategoryTreeSnapshot snapshot, String name, boolean fuzzy) {
+        if (name == null || name.trim().isEmpty()) {
+            return snapshot.toResponseTree();
+        }
+
+        return searchResultCache.load(snapshot.getVersion(), CategorySearchResultCache.ALL_ROOTS, name, fuzzy, () -> {
+            int[] matches = snapshot.searchIndex().search(name);
+            boolean complete = true;
+            if (fuzzy) {
+                CategoryFuzzyIndex.Result merged = withFuzzyMatches(snapshot, name, matches);
+                matches = merged.matches();
+                complete = merged.complete();
+            }
+            return new CategorySearchResultCache.Loaded(
+                    snapshot.toMatchedResponseTree(matches, CategoryTreeSnapshot.NOT_FOUND), complete);
+        });
+    }
+
+    private CategoryResponse searchSubTree(CategoryTreeSnapshot snapshot, int index, String name) {
+        List<CategoryResponse> result = searchResultCache.get(snapshot.getVersion(), snapshot.id(index), name, false, () -> {
+            int[] matches = snapshot.searchIndex().search(name, index, snapshot.subtreeEnd(index));
+            return snapshot.toMatchedResponseTree(matches, index);
+        });
+        return result.isEmpty() ? null : result.get(0);
     }
 
     /**
-     * 트리에서 카테고리 필터링
+     * 오타 허용 일치 추가 - 시간 예산을 넘기면 그때까지 찾은 결과만 합침 (complete=false, 결과 캐시에 저장하지 않음)
      */
-    private List<CategoryResponse> filterCategoryTree(List<CategoryResponse> categories, String name) {
-        return categories.stream()
-                .map(category -> filterSingleCategoryTree(category, name))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    private CategoryFuzzyIndex.Result withFuzzyMatches(CategoryTreeSnapshot snapshot, String name, int[] matches) {
+        CategorySearchProperties.Fuzzy fuzzy = searchProperties.getFuzzy();
+        long deadline = System.nanoTime() + fuzzy.getBudget().toNanos();
+
+        CategoryFuzzyIndex.Result result = snapshot.fuzzyIndex().search(name, fuzzy.getMaxDistance(), deadline);
+        if (!result.complete()) {
+            log.debug("오타 허용 검색 시간 예산 초과 - 부분 결과 반환: query={}, budget={}", name, fuzzy.getBudget());
+        }
+
+        int[] merged = IntStream.concat(Arrays.stream(matches), Arrays.stream(result.matches()))
+                .sorted()
+                .distinct()
+                .toArray();
+        return new CategoryFuzzyIndex.Result(merged, result.complete());
+    }
+
+    /**
+     * 자동완성 응답 - 조상은 스냅샷에 미리 계산된 루트부터의 경로(pathNode)에서 읽음 (O(깊이), 부모 추적 없음)
+     */
+    private CategoryAutocompleteResponse toAutocompleteResponse(CategoryTreeSnapshot snapshot, int index) {
+        int depth = snapshot.depth(index);
+        String[] path = new String[depth];
+        Long[] pathIds = new Long[depth];
+        for (int k = 0; k < depth; k++) {
+            int ancestor = snapshot.pathNode(index, k);
+            path[k] = snapshot.node(ancestor).getName();
+            pathIds[k] = snapshot.id(ancestor);
+        }
+
+        CategoryDto node = snapshot.node(index);
+        return CategoryAutocompleteResponse.builder()
+                .id(node.getId())
+                .name(node.getName())
+                .code(node.getCode())
+                .depth(depth)
+                .displayOrder(node.getDisplayOrder())
+                .path(List.of(path))
+                .pathIds(List.of(pathIds))
+                .build();
     }
 
     /**
      * 단일 카테고리 트리 필터링
      */
     private CategoryResponse filterSingleCategoryTree(CategoryResponse category, String name) {
-        boolean currentMatches = category.getName().toLowerCase().contains(name.toLowerCase());
+        boolean currentMatches = CategorySearchIndex.matches(name,
+                category.getName(), category.getStoreTitle(), category.getGroupTitle());
 
         List<CategoryResponse> filteredChildren = null;
         if (category.getChildren() != null) {
@@ -0,0 +1,34 @@
+package com.yl.musinsa2.service;
+
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+
+import java.util.Locale;
+
+/**
+ * 트리 적재 결과 - 스냅샷과 그 스냅샷을 얻은 경로
+ * 호출 측이 스냅샷 모양(빈 트리 싱글톤 등)으로 결과를 추측하지 않도록 캐시 서비스가 함께 반환
+ *
+ * @param snapshot 적재된 트리, 실패 시 마지막으로 알려진 트리 또는 CategoryTreeSnapshot.empty()
+ */
+public record CategoryTreeLoad(CategoryTreeSnapshot snapshot, Outcome outcome) {
+
+    public enum Outcome {
+        // 이미 있는 트리 사용 (현재 세대의 Redis 트리, 단독 재구성 간격 내의 마지막 트리)
+        REUSED,
+        // 이 인스턴스가 DB 에서 재구성
+        REBUILT,
+        // 다른 인스턴스가 재구성하여 Redis 에 저장한 트리 사용
+        REMOTE,
+        // DB 재구성은 성공했으나 카테고리가 없음
+        EMPTY,
+        // DB 로딩 실패 또는 진행 중인 재구성 대기 실패
+        FAILED
+    }
+
+    /**
+     * 지표 태그/로그용 소문자 이름 (reused, rebuilt, remote, empty, failed)
+     */
+    public String outcomeName() {
+        return outcome.name().toLowerCase(Locale.ROOT);
+    }
+}
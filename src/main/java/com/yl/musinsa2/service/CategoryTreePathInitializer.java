@@ -0,0 +1,37 @@
+package com.yl.musinsa2.service;
+
+import com.yl.musinsa2.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 트리 경로(tree_path) 보정
+ * - 새 카테고리는 저장 시 경로가 부여되므로 (Category.assignTreePath) 시작 시 한 번만 실행
+ * - SQL 로 넣은 초기 데이터(data.sql)와 컬럼 추가 전 데이터의 경로를 채움
+ * - 캐시 워밍업(CategoryCacheInitializer)보다 먼저 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreePathInitializer {
+
+    private final CategoryRepository categoryRepository;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingTreePaths() {
+        try {
+            int filled = categoryRepository.fillMissingTreePaths();
+            if (filled > 0) {
+                log.info("카테고리 트리 경로 보정 완료: {} 개", filled);
+            }
+        } catch (Exception e) {
+            log.error("카테고리 트리 경로 보정 실패 - 경로가 없는 카테고리는 하위/조상 조회에서 제외됨", e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.yl.musinsa2.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 트리/하위 트리 JSON 렌더링 캐시
+ * - 트리 스냅샷 버전마다 한 번만 직렬화/압축하여 바이트로 보관 (다음 쓰기 전까지 요청마다 Jackson 직렬화, 압축 없음)
+ * - 압축 본문(gzip)도 렌더링 시 최고 압축률로 한 번 생성, 원본보다 작을 때만 보관
+ * - ETag 는 렌더링된 본문의 해시 - 스냅샷 버전 번호는 인스턴스마다 다르고 내용이 같아도 갱신 시 증가하므로
+ *   내용 해시를 사용해야 모든 인스턴스와 갱신 전후에 같은 ETag 를 응답 (압축 본문은 별도 ETag)
+ * - 하위 트리는 id 별로 크기 상한(render.subtree-maximum-weight) 안에서 보관, 버전이 바뀌면 다시 렌더링
+ * - 검색/경로 등 파생 응답의 ETag 는 스냅샷 내용 해시에서 파생 (트리를 렌더링하거나 응답 본문을 만들지 않고 304 판단)
+ */
+@Slf4j
+@Component
+public class CategoryTreeRenderer {
+
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final ObjectMapper objectMapper;
+
+    // 마지막으로 렌더링한 트리 (가장 최신 버전만 보관)
+    private final AtomicReference<RenderedJson> rendered = new AtomicReference<>();
+
+    // 카테고리 id -> 하위 트리 렌더링 결과 (버전이 다르면 다시 렌더링)
+    private final Cache<Long, RenderedJson> subtrees;
+
+    /**
+     * @param version  렌더링한 스냅샷 버전 (스냅샷 밖의 데이터는 0)
+     * @param json     JSON 본문 (공유되므로 수정 금지)
+     * @param gzip     gzip 압축 본문, 압축 이득이 없으면 null
+     * @param eTag     JSON 본문 ETag (따옴표 포함)
+     * @param gzipETag gzip 본문 ETag
+     */
+    public record RenderedJson(long version, byte[] json, byte[] gzip, String eTag, String gzipETag) {
+
+        private int weight() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+
+    public CategoryTreeRenderer(ObjectMapper objectMapper, CategoryCacheProperties cacheProperties) {
+        this.objectMapper = objectMapper;
+        this.subtrees = Caffeine.newBuilder()
+                .maximumWeight(cacheProperties.getRender().getSubtreeMaximumWeight().toBytes())
+                .weigher((Long id, RenderedJson json) -> json.weight())
+                .build();
+    }
+
+    /**
+     * 스냅샷의 전체 트리 렌더링 결과 - 같은 버전은 한 번만 직렬화
+     */
+    public RenderedJson render(CategoryTreeSnapshot snapshot) {
+        RenderedJson current = rendered.get();
+        if (current != null && current.version() == snapshot.getVersion()) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = rendered.get();
+            if (current != null && current.version() == snapshot.getVersion()) {
+                return current;
+            }
+
+            long start = System.nanoTime();
+            RenderedJson tree = encode(snapshot.getVersion(), serialize(snapshot.toResponseTree()));
+
+            // 이전 버전(stale 스냅샷) 렌더링 결과는 응답에만 사용하고 보관하지 않음
+            rendered.accumulateAndGet(tree, (previous, candidate) ->
+                    previous == null || candidate.version() >= previous.version() ? candidate : previous);
+            log.debug("트리 JSON 렌더링: version={}, bytes={}, gzipBytes={}, elapsed={}ms", snapshot.getVersion(),
+                    tree.json().length, tree.gzip() != null ? tree.gzip().length : 0, (System.nanoTime() - start) / 1_000_000);
+            return tree;
+        }
+    }
+
+    /**
+     * 스냅샷의 하위 트리 렌더링 결과 - 같은 버전의 같은 카테고리는 한 번만 직렬화
+     */
+    public RenderedJson renderSubtree(CategoryTreeSnapshot snapshot, int index) {
+        long id = snapshot.id(index);
+        RenderedJson current = subtrees.getIfPresent(id);
+        if (current != null && current.version() == snapshot.getVersion()) {
+            return current;
+        }
+
+        RenderedJson subtree = encode(snapshot.getVersion(), serialize(snapshot.toResponseTree(index)));
+        if (current == null || subtree.version() > current.version()) {
+            subtrees.put(id, subtree);
+        }
+        return subtree;
+    }
+
+    /**
+     * 스냅샷 밖의 데이터 렌더링 (보관/압축하지 않음)
+     */
+    public RenderedJson renderUncached(Object body) {
+        return new RenderedJson(0L, serialize(body), null, null, null);
+    }
+
+    /**
+     * 스냅샷 내용 해시에서 파생된 ETag - 트리 렌더링 없이 발급 (쓰기마다 전체 직렬화/압축하지 않음)
+     */
+    public static String snapshotETag(CategoryTreeSnapshot snapshot, Object... parts) {
+        return derivedETag(Long.toHexString(snapshot.contentHash()), parts);
+    }
+
+    /**
+     * 트리 ETag 에서 파생된 ETag - 같은 트리 내용과 같은 요청 조건이면 항상 같은 값
+     */
+    public static String derivedETag(String treeETag, Object... parts) {
+        StringBuilder source = new StringBuilder(treeETag);
+        for (Object part : parts) {
+            source.append('\u0000').append(part);
+        }
+        return eTag(source.toString().getBytes(StandardCharsets.UTF_8), "");
+    }
+
+    private static RenderedJson encode(long version, byte[] json) {
+        byte[] gzip = gzip(json);
+        if (gzip.length >= json.length) {
+            gzip = null;
+        }
+        return new RenderedJson(version, json, gzip, eTag(json, ""), gzip != null ? eTag(json, GZIP_ETAG_SUFFIX) : null);
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카테고리 JSON 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("카테고리 JSON 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String eTag(byte[] content, String suffix) {
+        return "\"" + DigestUtils.md5DigestAsHex(content) + suffix + "\"";
+    }
+}
@@ -0,0 +1,16 @@
+package com.yl.musinsa2.service;
+
+import java.util.function.Supplier;
+
+/**
+ * ETag 와 응답 본문 - 본문은 조건부 요청이 일치하지 않을 때만 생성
+ * ETag 와 본문은 같은 트리 스냅샷에서 만들어지므로 서로 다른 버전이 섞이지 않음
+ *
+ * @param eTag 강한 ETag (따옴표 포함), 트리 스냅샷 밖의 데이터로 응답하면 null
+ */
+public record ETagged<T>(String eTag, Supplier<T> body) {
+
+    public static <T> ETagged<T> untagged(Supplier<T> body) {
+        return new ETagged<>(null, body);
+    }
+}
@@ -14,6 +14,8 @@ CREATE TABLE IF NOT EXISTS categories (
     group_title VARCHAR(100),
     display_order INTEGER NOT NULL DEFAULT 0,
     gender_filter VARCHAR(10) NOT NULL DEFAULT 'A',  -- A: 전체, M: 남성, F: 여성
+    tree_path VARCHAR(255),                          -- 루트부터 자신까지의 id 경로 (예: /1/4/5/)
+    tree_depth INTEGER NOT NULL DEFAULT 0,
     
     FOREIGN KEY (parent_id) REFERENCES categories(id)
 );
@@ -22,3 +24,4 @@ CREATE INDEX IF NOT EXISTS idx_categories_parent_id ON categories(parent_id, dis
 CREATE INDEX IF NOT EXISTS idx_categories_name ON categories(name);
 CREATE INDEX IF NOT EXISTS idx_categories_code ON categories(code);
 CREATE INDEX IF NOT EXISTS idx_categories_parent_not_deleted ON categories(parent_id, deleted);
+CREATE INDEX IF NOT EXISTS idx_categories_tree_path ON categories(tree_path);
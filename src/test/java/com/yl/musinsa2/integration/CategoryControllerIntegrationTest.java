@@ -1,7 +1,9 @@
 package com.yl.musinsa2.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
 import com.yl.musinsa2.dto.CategoryCreateRequest;
+import com.yl.musinsa2.dto.CategoryDto;
 import com.yl.musinsa2.dto.CategoryUpdateRequest;
 import com.yl.musinsa2.entity.GenderFilter;
 import com.yl.musinsa2.service.CategoryCacheInitializer;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -20,14 +23,20 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -61,7 +70,7 @@ class CategoryControllerIntegrationTest {
     @DisplayName("카테고리 트리 조회 API")
     void getCategoryTree() throws Exception {
         // given - 캐시가 비어있다고 가정
-        when(categoryCache.getCategoryTree()).thenReturn(new ArrayList<>());
+        when(categoryCache.loadAndCacheFromDB()).thenReturn(CategoryTreeSnapshot.empty());
 
         // when & then
         mockMvc.perform(get("/api/categories"))
@@ -70,6 +79,74 @@ class CategoryControllerIntegrationTest {
                 .andExpect(jsonPath("$").isArray());
     }
 
+    @Test
+    @DisplayName("카테고리 트리 조회 API - If-None-Match 가 일치하면 304")
+    void getCategoryTree_NotModified() throws Exception {
+        // given
+        when(categoryCache.loadAndCacheFromDB()).thenReturn(CategoryTreeSnapshot.empty());
+        String eTag = mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/api/categories")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(get("/api/categories/search")
+                        .param("name", "상의")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("카테고리 트리 조회 API - Accept-Encoding 에 gzip 이 있으면 미리 압축된 본문 응답")
+    void getCategoryTree_Gzip() throws Exception {
+        // given
+        List<CategoryDto> categories = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            categories.add(CategoryDto.builder()
+                    .id(id)
+                    .name("압축 카테고리 " + id)
+                    .code("GZIP" + id)
+                    .parentId(id == 1 ? null : 1L)
+                    .displayOrder((int) id)
+                    .build());
+        }
+        when(categoryCache.getTreeSnapshot()).thenReturn(CategoryTreeSnapshot.build(17_000L, categories));
+
+        // when
+        byte[] gzip = mockMvc.perform(get("/api/categories")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        byte[] identity = mockMvc.perform(get("/api/categories")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$[0].children.length()").value(29))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // then
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertThat(gunzip.readAllBytes()).isEqualTo(identity);
+        }
+        assertThat(gzip.length).isLessThan(identity.length);
+    }
+
     @Test
     @DisplayName("특정 카테고리 조회 API - 존재하지 않는 카테고리")
     void getCategoryById_NotExists() throws Exception {
@@ -81,6 +158,80 @@ class CategoryControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("카테고리 경로 조회 API - 루트부터 카테고리까지")
+    void getCategoryPath() throws Exception {
+        // given
+        CategoryDto root = CategoryDto.builder().id(1L).name("상의").displayOrder(1).build();
+        CategoryDto child = CategoryDto.builder().id(2L).name("티셔츠").parentId(1L).displayOrder(1).build();
+        when(categoryCache.getTreeSnapshot()).thenReturn(CategoryTreeSnapshot.build(1L, List.of(root, child)));
+
+        // when & then
+        mockMvc.perform(get("/api/categories/2/path"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("상의"))
+                .andExpect(jsonPath("$[1].name").value("티셔츠"));
+
+        mockMvc.perform(get("/api/categories/99999/path"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 ID 조회 API - 정렬, 리프만, 차분 인코딩 및 하위 여부 확인")
+    void getDescendantIds() throws Exception {
+        // given
+        CategoryDto root = CategoryDto.builder().id(1L).name("상의").displayOrder(1).build();
+        CategoryDto shirt = CategoryDto.builder().id(7L).name("셔츠").parentId(1L).displayOrder(2).build();
+        CategoryDto tee = CategoryDto.builder().id(3L).name("티셔츠").parentId(1L).displayOrder(1).build();
+        CategoryDto shortSleeve = CategoryDto.builder().id(10L).name("반소매 티셔츠").parentId(3L).displayOrder(1).build();
+        when(categoryCache.getTreeSnapshot())
+                .thenReturn(CategoryTreeSnapshot.build(1L, List.of(root, shirt, tee, shortSleeve)));
+
+        // when & then
+        mockMvc.perform(get("/api/categories/1/descendants"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.count").value(3))
+                .andExpect(jsonPath("$.ids").value(contains(3, 7, 10)));
+
+        mockMvc.perform(get("/api/categories/1/descendants").param("leafOnly", "true").param("delta", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.delta").value(true))
+                .andExpect(jsonPath("$.ids").value(contains(7, 3)));
+
+        mockMvc.perform(get("/api/categories/1/descendants/10"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+        mockMvc.perform(get("/api/categories/3/descendants/7"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("false"));
+    }
+
+    @Test
+    @DisplayName("여러 카테고리 조회 API - 요청 순서대로, 없는 카테고리 제외")
+    void getCategoriesByIds() throws Exception {
+        // given
+        CategoryDto root = CategoryDto.builder().id(1L).name("상의").displayOrder(1).build();
+        CategoryDto child = CategoryDto.builder().id(2L).name("티셔츠").parentId(1L).displayOrder(1).build();
+        when(categoryCache.getTreeSnapshot()).thenReturn(CategoryTreeSnapshot.build(1L, List.of(root, child)));
+
+        // when & then
+        mockMvc.perform(get("/api/categories").param("ids", "2,99999,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].parentName").value("상의"))
+                .andExpect(jsonPath("$[1].id").value(1))
+                .andExpect(jsonPath("$[1].leaf").value(false));
+
+        mockMvc.perform(post("/api/categories/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("카테고리 생성 API - 성공")
     void createCategory_Success() throws Exception {
@@ -180,7 +331,7 @@ class CategoryControllerIntegrationTest {
     @DisplayName("카테고리 검색 API - 검색어 없음")
     void searchCategories_NoKeyword() throws Exception {
         // given
-        when(categoryCache.getCategoryTree()).thenReturn(new ArrayList<>());
+        when(categoryCache.loadAndCacheFromDB()).thenReturn(CategoryTreeSnapshot.empty());
 
         // when & then
         mockMvc.perform(get("/api/categories/search"))
@@ -193,7 +344,7 @@ class CategoryControllerIntegrationTest {
     @DisplayName("카테고리 검색 API - 검색어 있음")
     void searchCategories_WithKeyword() throws Exception {
         // given
-        when(categoryCache.getCategoryTree()).thenReturn(new ArrayList<>());
+        when(categoryCache.loadAndCacheFromDB()).thenReturn(CategoryTreeSnapshot.empty());
 
         // when & then
         mockMvc.perform(get("/api/categories/search")
@@ -203,6 +354,36 @@ class CategoryControllerIntegrationTest {
                 .andExpect(jsonPath("$").isArray());
     }
 
+    @Test
+    @DisplayName("카테고리 검색 API - 오타 허용 검색")
+    void searchCategories_Fuzzy() throws Exception {
+        // given
+        when(categoryCache.loadAndCacheFromDB()).thenReturn(CategoryTreeSnapshot.empty());
+
+        // when & then
+        mockMvc.perform(get("/api/categories/search")
+                        .param("name", "스니커스")
+                        .param("fuzzy", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    @Test
+    @DisplayName("카테고리 자동완성 API")
+    void autocomplete() throws Exception {
+        // given
+        when(categoryCache.loadAndCacheFromDB()).thenReturn(CategoryTreeSnapshot.empty());
+
+        // when & then
+        mockMvc.perform(get("/api/categories/autocomplete")
+                        .param("q", "상")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$").isArray());
+    }
+
     @Test
     @DisplayName("캐시 갱신 API")
     void refreshCache() throws Exception {
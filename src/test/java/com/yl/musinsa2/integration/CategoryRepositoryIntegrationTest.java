@@ -1,5 +1,6 @@
 package com.yl.musinsa2.integration;
 
+import com.yl.musinsa2.dto.CategoryDto;
 import com.yl.musinsa2.entity.Category;
 import com.yl.musinsa2.entity.GenderFilter;
 import com.yl.musinsa2.repository.CategoryRepository;
@@ -8,6 +9,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -15,6 +18,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -24,6 +28,9 @@ class CategoryRepositoryIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     public void before() {
         categoryRepository.deleteAll();
@@ -219,4 +226,154 @@ class CategoryRepositoryIntegrationTest {
 
         assertThat(updated.getUpdatedAt()).isAfter(updated.getCreatedAt());
     }
+
+    @Test
+    @DisplayName("평면 조회 - 전체, 서브트리, id 목록을 엔티티 없이 조회, 삭제된 카테고리 제외")
+    void findFlat() {
+        // given
+        Category root = categoryRepository.save(Category.builder().name("루트").code("FLAT_ROOT").build());
+        Category child = categoryRepository.save(Category.builder()
+                .name("자식").code("FLAT_CHILD").displayOrder(2).parent(root).build());
+        Category grandChild = categoryRepository.save(Category.builder()
+                .name("손자").code("FLAT_GRAND").parent(child).build());
+        Category deleted = categoryRepository.save(Category.builder()
+                .name("삭제").code("FLAT_DEL").displayOrder(1).parent(root).build());
+        categoryRepository.delete(deleted);
+        categoryRepository.flush();
+
+        // when
+        List<CategoryDto> all = categoryRepository.findAllFlat();
+        List<CategoryDto> subtree = categoryRepository.findSubtreeFlat(child.getId());
+        List<CategoryDto> byIds = categoryRepository.findAllFlatByIds(
+                List.of(grandChild.getId(), root.getId(), deleted.getId(), -1L));
+
+        // then
+        assertThat(all).extracting(CategoryDto::getCode)
+                .containsExactlyInAnyOrder("FLAT_ROOT", "FLAT_CHILD", "FLAT_GRAND");
+        assertThat(all).filteredOn(dto -> dto.getId().equals(grandChild.getId()))
+                .extracting(CategoryDto::getParentId)
+                .containsExactly(child.getId());
+
+        assertThat(subtree).extracting(CategoryDto::getId)
+                .containsExactly(child.getId(), grandChild.getId());
+        assertThat(subtree.get(0).getParentName()).isEqualTo("루트");
+        assertThat(subtree.get(1).getGenderFilter()).isEqualTo(GenderFilter.ALL);
+        assertThat(categoryRepository.findSubtreeFlat(deleted.getId())).isEmpty();
+
+        assertThat(byIds).extracting(CategoryDto::getId)
+                .containsExactlyInAnyOrder(grandChild.getId(), root.getId());
+        assertThat(byIds).filteredOn(dto -> dto.getId().equals(grandChild.getId()))
+                .extracting(CategoryDto::getParentName)
+                .containsExactly("자식");
+    }
+
+    @Test
+    @DisplayName("트리 경로 - 저장 시 부여, 하위/조상 조회, 누락된 경로 보정")
+    void treePath() {
+        // given - id 가 자릿수 경계를 넘어도 (예: 4 와 40) 범위가 섞이지 않는지 확인
+        Category root = categoryRepository.save(Category.builder().name("루트").code("PATH_ROOT").build());
+        Category child = categoryRepository.save(Category.builder().name("자식").code("PATH_CHILD").parent(root).build());
+        Category grandChild = categoryRepository.save(Category.builder()
+                .name("손자").code("PATH_GRAND").parent(child).build());
+        Category sibling = categoryRepository.save(Category.builder()
+                .name("형제").code("PATH_SIBLING").parent(root).build());
+        jdbcTemplate.update("UPDATE categories SET tree_path = ? WHERE id = ?",
+                root.getTreePath() + child.getId() + "0/", sibling.getId());
+
+        // when
+        Category saved = categoryRepository.findById(grandChild.getId()).orElseThrow();
+        List<CategoryDto> subtree = categoryRepository.findSubtreeFlat(child.getId());
+        List<CategoryDto> ancestors = categoryRepository.findAncestorsFlat(grandChild.getId());
+
+        // then
+        assertThat(saved.getTreePath())
+                .isEqualTo("/" + root.getId() + "/" + child.getId() + "/" + grandChild.getId() + "/");
+        assertThat(saved.getTreeDepth()).isEqualTo(2);
+        assertThat(subtree).extracting(CategoryDto::getId).containsExactly(child.getId(), grandChild.getId());
+        assertThat(ancestors).extracting(CategoryDto::getId)
+                .containsExactly(root.getId(), child.getId(), grandChild.getId());
+        assertThat(ancestors.get(2).getParentName()).isEqualTo("자식");
+
+        // when - 경로가 없는 데이터 (SQL 로 넣은 초기 데이터 등)
+        jdbcTemplate.update("UPDATE categories SET tree_path = NULL, tree_depth = 0 WHERE id IN (?, ?, ?, ?)",
+                root.getId(), child.getId(), grandChild.getId(), sibling.getId());
+        int filled = categoryRepository.fillMissingTreePaths();
+
+        // then
+        assertThat(filled).isEqualTo(4);
+        assertThat(categoryRepository.findById(grandChild.getId()).orElseThrow().getTreePath())
+                .isEqualTo(saved.getTreePath());
+        assertThat(categoryRepository.findSubtreeFlat(root.getId())).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("트리 경로 - 부모 변경(이동)은 거부되고 경로가 유지됨")
+    void treePath_RejectsParentChange() {
+        // given
+        Category root = categoryRepository.save(Category.builder().name("루트").code("MOVE_ROOT").build());
+        Category other = categoryRepository.save(Category.builder().name("다른 루트").code("MOVE_OTHER").build());
+        Category child = categoryRepository.save(Category.builder().name("자식").code("MOVE_CHILD").parent(root).build());
+
+        // when
+        Category moving = categoryRepository.findById(child.getId()).orElseThrow();
+        moving.setParent(other);
+        Throwable thrown = catchThrowable(() -> categoryRepository.saveAndFlush(moving));
+
+        // then
+        assertThat(NestedExceptionUtils.getMostSpecificCause(thrown))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("부모는 변경할 수 없습니다");
+        Category reloaded = categoryRepository.findById(child.getId()).orElseThrow();
+        assertThat(reloaded.getParent().getId()).isEqualTo(root.getId());
+        assertThat(reloaded.getTreePath()).isEqualTo(child.getTreePath());
+    }
+
+    @Test
+    @DisplayName("트리 경로 - 컬럼 길이(255)를 넘는 경로의 카테고리는 저장되지 않음")
+    void treePath_RejectsPathOverColumnLength() {
+        // given - 부모 경로를 길이 한도 가까이로 설정
+        Category root = categoryRepository.save(Category.builder().name("루트").code("LONG_ROOT").build());
+        int padding = (Category.MAX_TREE_PATH_LENGTH - root.getTreePath().length()) / 2;
+        String longPath = root.getTreePath() + "1/".repeat(padding);
+        jdbcTemplate.update("UPDATE categories SET tree_path = ? WHERE id = ?", longPath, root.getId());
+        Category parent = categoryRepository.findById(root.getId()).orElseThrow();
+
+        // when
+        Throwable thrown = catchThrowable(() -> categoryRepository.save(Category.builder()
+                .name("자식").code("LONG_CHILD").parent(parent).build()));
+
+        // then
+        assertThat(NestedExceptionUtils.getMostSpecificCause(thrown))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("너무 깊어");
+        assertThat(categoryRepository.findAllFlat()).extracting(CategoryDto::getCode)
+                .containsExactly("LONG_ROOT");
+    }
+
+    @Test
+    @DisplayName("트리 경로 - 부모 경로가 없으면 부모 체인으로 부여, 경로가 없는 카테고리도 하위/조상 조회에 포함")
+    void treePath_MissingParentPath() {
+        // given - 시작 시 보정 이후 경로 없이 들어온 부모
+        Category root = categoryRepository.save(Category.builder().name("루트").code("MISS_ROOT").build());
+        Category child = categoryRepository.save(Category.builder().name("자식").code("MISS_CHILD").parent(root).build());
+        jdbcTemplate.update("UPDATE categories SET tree_path = NULL, tree_depth = 0 WHERE id IN (?, ?)",
+                root.getId(), child.getId());
+        Category parent = categoryRepository.findById(child.getId()).orElseThrow();
+
+        // when
+        Category grandChild = categoryRepository.save(Category.builder()
+                .name("손자").code("MISS_GRAND").parent(parent).build());
+
+        // then
+        assertThat(grandChild.getTreePath())
+                .isEqualTo("/" + root.getId() + "/" + child.getId() + "/" + grandChild.getId() + "/");
+        assertThat(grandChild.getTreeDepth()).isEqualTo(2);
+        assertThat(categoryRepository.findSubtreeFlat(root.getId())).extracting(CategoryDto::getId)
+                .containsExactly(root.getId(), child.getId(), grandChild.getId());
+        assertThat(categoryRepository.findAncestorsFlat(child.getId())).extracting(CategoryDto::getId)
+                .containsExactly(root.getId(), child.getId());
+        assertThat(categoryRepository.findAncestorsFlat(grandChild.getId())).extracting(CategoryDto::getId)
+                .containsExactly(root.getId(), child.getId(), grandChild.getId());
+        assertThat(categoryRepository.findSubtreeFlat(-1L)).isEmpty();
+    }
 }
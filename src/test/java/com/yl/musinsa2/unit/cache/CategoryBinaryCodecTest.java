@@ -0,0 +1,144 @@
+package com.yl.musinsa2.unit.cache;
+
+import com.yl.musinsa2.cache.CategoryBinaryCodec;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.entity.GenderFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CategoryBinaryCodec 단위테스트")
+class CategoryBinaryCodecTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_456_789);
+
+    private static CategoryDto category(long id, Long parentId, int displayOrder, String name) {
+        return CategoryDto.builder()
+                .id(id)
+                .parentId(parentId)
+                .displayOrder(displayOrder)
+                .sortOrder(displayOrder)
+                .name(name)
+                .description(name + " 설명")
+                .code("C" + id)
+                .storeTitle("무신사 스토어")
+                .genderFilter(GenderFilter.MALE)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+
+    @Test
+    @DisplayName("트리 왕복 - 전위 순서, 필드, 부모 이름이 그대로 복원")
+    void encodeTree_RoundTrip() {
+        // given
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, List.of(
+                category(1L, null, 1, "상의"),
+                category(2L, 1L, 2, "셔츠"),
+                category(3L, 1L, 1, "티셔츠"),
+                category(4L, 3L, -1, "반소매 티셔츠"),
+                category(5L, null, 2, "아우터")));
+
+        // when
+        byte[] encoded = CategoryBinaryCodec.encodeTree(snapshot);
+        CategoryTreeSnapshot decoded = CategoryTreeSnapshot.build(2L, CategoryBinaryCodec.decodeTree(encoded));
+
+        // then
+        assertThat(CategoryBinaryCodec.isBinary(encoded)).isTrue();
+        assertThat(decoded.size()).isEqualTo(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            assertThat(decoded.node(i)).isEqualTo(snapshot.node(i));
+            assertThat(decoded.parentIndex(i)).isEqualTo(snapshot.parentIndex(i));
+        }
+        assertThat(decoded.node(decoded.indexOf(4L)).getParentName()).isEqualTo("티셔츠");
+    }
+
+    @Test
+    @DisplayName("큰 트리는 압축되고 반복 문자열은 같은 인스턴스로 복원")
+    void encodeTree_CompressesAndSharesStrings() {
+        // given
+        List<CategoryDto> categories = new ArrayList<>();
+        categories.add(category(1L, null, 1, "루트"));
+        for (long id = 2; id <= 500; id++) {
+            categories.add(category(id, 1L, (int) id, "카테고리 " + id));
+        }
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        // when
+        byte[] encoded = CategoryBinaryCodec.encodeTree(snapshot);
+        List<CategoryDto> decoded = CategoryBinaryCodec.decodeTree(encoded);
+
+        // then
+        assertThat(encoded.length).isLessThan(500 * 20);
+        assertThat(decoded).hasSize(500);
+        assertThat(decoded.get(1).getStoreTitle()).isSameAs(decoded.get(2).getStoreTitle());
+        assertThat(decoded.get(499)).isEqualTo(snapshot.node(499));
+    }
+
+    @Test
+    @DisplayName("개별 카테고리 왕복 - 하위 카테고리는 children 으로 복원")
+    void encodeNode_RoundTripWithChildren() {
+        // given
+        CategoryDto child = category(2L, 1L, 1, "셔츠");
+        CategoryDto parent = category(1L, null, 1, "상의").toBuilder()
+                .children(new ArrayList<>(List.of(child)))
+                .build();
+
+        // when
+        CategoryDto decoded = CategoryBinaryCodec.decodeNode(CategoryBinaryCodec.encodeNode(parent));
+
+        // then
+        assertThat(decoded).isEqualTo(parent);
+        assertThat(decoded.getChildren()).containsExactly(child);
+    }
+
+    @Test
+    @DisplayName("모르는 형식 버전, 다른 값 종류, 잘린 값은 예외")
+    void decode_RejectsUnknownOrBrokenValue() {
+        // given
+        byte[] node = CategoryBinaryCodec.encodeNode(category(1L, null, 1, "상의"));
+        byte[] future = node.clone();
+        future[1] = CategoryBinaryCodec.FORMAT_VERSION + 1;
+
+        // when & then
+        assertThatThrownBy(() -> CategoryBinaryCodec.decodeNode(future))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("버전");
+        assertThatThrownBy(() -> CategoryBinaryCodec.decodeTree(node))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> CategoryBinaryCodec.decodeNode(Arrays.copyOf(node, node.length - 3)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(CategoryBinaryCodec.isBinary("{\"id\":1}".getBytes())).isFalse();
+    }
+
+    @Test
+    @DisplayName("기록된 압축 해제 길이/레코드 개수가 상한을 넘으면 할당 없이 예외 (캐시 미스)")
+    void decode_RejectsOversizedLengths() {
+        // given - 압축 플래그 + 압축 해제 길이 1GiB (varint), 압축 본문 3바이트
+        byte[] hugeRaw = {CategoryBinaryCodec.MAGIC, CategoryBinaryCodec.FORMAT_VERSION, 2, 1,
+                (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x04, 0x03, 0x00, 0x00};
+        // 압축 해제 길이 1MiB - 최대 크기 이내지만 압축 본문 3바이트로는 불가능한 크기
+        byte[] impossibleRatio = {CategoryBinaryCodec.MAGIC, CategoryBinaryCodec.FORMAT_VERSION, 2, 1,
+                (byte) 0x80, (byte) 0x80, 0x40, 0x03, 0x00, 0x00};
+        // 비압축 + 레코드 개수 0xFFFFFFFF
+        byte[] hugeCount = {CategoryBinaryCodec.MAGIC, CategoryBinaryCodec.FORMAT_VERSION, 2, 0,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+
+        // when & then
+        assertThatThrownBy(() -> CategoryBinaryCodec.decodeTree(hugeRaw))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("길이");
+        assertThatThrownBy(() -> CategoryBinaryCodec.decodeTree(impossibleRatio))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("길이");
+        assertThatThrownBy(() -> CategoryBinaryCodec.decodeTree(hugeCount))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("개수");
+    }
+}
@@ -0,0 +1,85 @@
+package com.yl.musinsa2.unit.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yl.musinsa2.cache.CategoryBinaryCodec;
+import com.yl.musinsa2.cache.CategoryCacheCodec;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import com.yl.musinsa2.config.RedisConfig;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.entity.GenderFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CategoryCacheCodec 단위테스트")
+class CategoryCacheCodecTest {
+
+    private final ObjectMapper objectMapper = new RedisConfig().objectMapper();
+
+    private final CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, List.of(
+            category(1L, null, "상의"),
+            category(2L, 1L, "티셔츠")));
+
+    private static CategoryDto category(long id, Long parentId, String name) {
+        return CategoryDto.builder()
+                .id(id)
+                .parentId(parentId)
+                .name(name)
+                .code("C" + id)
+                .displayOrder(1)
+                .genderFilter(GenderFilter.FEMALE)
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .build();
+    }
+
+    private CategoryCacheCodec codec(CategoryCacheProperties.Codec.Format format) {
+        CategoryCacheProperties properties = new CategoryCacheProperties();
+        properties.getCodec().setFormat(format);
+        return new CategoryCacheCodec(objectMapper, properties);
+    }
+
+    @Test
+    @DisplayName("이전 형식(CategoryResponse JSON) 트리와 개별 카테고리를 바로 복원")
+    void decode_LegacyJson() {
+        // given - 이전 버전이 저장한 값
+        GenericJackson2JsonRedisSerializer legacySerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        byte[] legacyTree = legacySerializer.serialize(snapshot.toResponseTree());
+        byte[] legacyNode = legacySerializer.serialize(snapshot.toResponse(1));
+
+        // when
+        CategoryCacheCodec codec = codec(CategoryCacheProperties.Codec.Format.BINARY);
+        CategoryTreeSnapshot tree = codec.decodeTree(2L, legacyTree);
+        CategoryDto node = codec.decodeNode(legacyNode);
+
+        // then
+        assertThat(tree.size()).isEqualTo(2);
+        assertThat(tree.node(tree.indexOf(2L))).isEqualTo(snapshot.node(1));
+        assertThat(node).isEqualTo(snapshot.node(1));
+    }
+
+    @Test
+    @DisplayName("저장 형식 설정과 관계없이 두 형식 모두 읽음")
+    void encode_FollowsConfiguredFormat() {
+        // given
+        CategoryCacheCodec binary = codec(CategoryCacheProperties.Codec.Format.BINARY);
+        CategoryCacheCodec json = codec(CategoryCacheProperties.Codec.Format.JSON);
+
+        // when
+        byte[] binaryTree = binary.encodeTree(snapshot);
+        byte[] jsonTree = json.encodeTree(snapshot);
+
+        // then
+        assertThat(CategoryBinaryCodec.isBinary(binaryTree)).isTrue();
+        assertThat(new String(jsonTree)).startsWith("[");
+        assertThat(binaryTree.length).isLessThan(jsonTree.length);
+        assertThat(json.decodeTree(2L, binaryTree).node(1)).isEqualTo(snapshot.node(1));
+        assertThat(binary.decodeTree(2L, jsonTree).node(1)).isEqualTo(snapshot.node(1));
+        assertThat(json.decodeNode(binary.encodeNode(snapshot.node(0)))).isEqualTo(snapshot.node(0));
+    }
+}
@@ -0,0 +1,80 @@
+package com.yl.musinsa2.unit.cache;
+
+import com.yl.musinsa2.cache.CategoryFuzzyIndex;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.dto.CategoryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CategoryFuzzyIndex 단위테스트")
+class CategoryFuzzyIndexTest {
+
+    private static CategoryDto category(long id, Long parentId, int displayOrder, String name) {
+        return CategoryDto.builder()
+                .id(id)
+                .parentId(parentId)
+                .displayOrder(displayOrder)
+                .name(name)
+                .build();
+    }
+
+    private final CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, List.of(
+            category(1L, null, 1, "신발"),
+            category(2L, 1L, 1, "스니커즈"),
+            category(3L, 1L, 2, "캔버스/단화"),
+            category(4L, null, 2, "상의"),
+            category(5L, 4L, 1, "반소매 티셔츠"),
+            category(6L, 4L, 2, "Hoodie"),
+            category(7L, null, 3, "백")
+    ));
+
+    private static long deadline() {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    }
+
+    @Test
+    @DisplayName("자모 편집 거리 이내의 이름 검색")
+    void search_WithinDistance() {
+        // when
+        CategoryFuzzyIndex.Result result = snapshot.fuzzyIndex().search("스니커스", 2, deadline());
+
+        // then
+        assertThat(result.complete()).isTrue();
+        assertThat(result.matches()).extracting(snapshot::id).containsExactly(2L);
+        assertThat(snapshot.fuzzyIndex().search("hoodee", 2, deadline()).matches())
+                .extracting(snapshot::id).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("이름의 각 단어도 사전에 포함")
+    void search_MatchesWords() {
+        assertThat(snapshot.fuzzyIndex().search("티셔트", 2, deadline()).matches())
+                .extracting(snapshot::id).containsExactly(5L);
+        assertThat(snapshot.fuzzyIndex().search("캔버수", 2, deadline()).matches())
+                .extracting(snapshot::id).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("짧은 검색어는 허용 거리가 줄어 유사한 짧은 이름과 일치하지 않음")
+    void search_ShortQueryLimitsDistance() {
+        assertThat(snapshot.fuzzyIndex().search("박", 2, deadline()).matches()).isEmpty();
+        assertThat(snapshot.fuzzyIndex().search("백", 2, deadline()).matches())
+                .extracting(snapshot::id).containsExactly(7L);
+        assertThat(snapshot.fuzzyIndex().search("상이", 2, deadline()).matches())
+                .extracting(snapshot::id).containsExactly(4L);
+        assertThat(snapshot.fuzzyIndex().search(" ", 2, deadline()).matches()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 거리 0 이면 정확히 일치하는 단어만 검색")
+    void search_ZeroDistance() {
+        assertThat(snapshot.fuzzyIndex().search("스니커스", 0, deadline()).matches()).isEmpty();
+        assertThat(snapshot.fuzzyIndex().search("스니커즈", 0, deadline()).matches())
+                .extracting(snapshot::id).containsExactly(2L);
+    }
+}
@@ -0,0 +1,195 @@
+package com.yl.musinsa2.unit.cache;
+
+import com.yl.musinsa2.cache.CategoryCacheCodec;
+import com.yl.musinsa2.cache.CategoryCacheGeneration;
+import com.yl.musinsa2.cache.CategoryCacheMetrics;
+import com.yl.musinsa2.cache.CategoryLocalCache;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.cache.RedisCircuitBreaker;
+import com.yl.musinsa2.cache.RedisLease;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import com.yl.musinsa2.config.RedisConfig;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.repository.CategoryRepository;
+import com.yl.musinsa2.service.CategoryCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CategoryLocalCache 단위테스트")
+class CategoryLocalCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CategoryCacheProperties properties = new CategoryCacheProperties();
+    private RedisCircuitBreaker circuitBreaker;
+
+    @AfterEach
+    void tearDown() {
+        if (circuitBreaker != null) {
+            circuitBreaker.shutdownProber();
+        }
+    }
+
+    private static CategoryDto category(long id, Long parentId, String name) {
+        return CategoryDto.builder()
+                .id(id)
+                .parentId(parentId)
+                .displayOrder(1)
+                .name(name)
+                .build();
+    }
+
+    private CategoryLocalCache localCache(Duration refreshAfter, Duration ttl) {
+        properties.getLocal().setRefreshAfter(refreshAfter);
+        properties.getLocal().setTtl(ttl);
+        return new CategoryLocalCache(properties, meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CategoryCacheService cacheService(CategoryLocalCache localCache, RedisTemplate<String, byte[]> redis) {
+        circuitBreaker = new RedisCircuitBreaker(mock(StringRedisTemplate.class), properties, meterRegistry);
+        return new CategoryCacheService(redis, mock(RedisTemplate.class), mock(CategoryRepository.class),
+                new CategoryCacheCodec(new RedisConfig().objectMapper(), properties), localCache,
+                new CategoryCacheMetrics(meterRegistry), mock(RedisLease.class), properties,
+                mock(CategoryCacheGeneration.class), circuitBreaker);
+    }
+
+    @Test
+    @DisplayName("개별 카테고리 저장/조회/제거, clear 는 개별 캐시를 비우고 트리를 무효화")
+    void nodeCache_PutEvictClear() {
+        // given
+        CategoryLocalCache localCache = localCache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(localCache.nextVersion(),
+                List.of(category(1L, null, "상의"), category(2L, 1L, "티셔츠")));
+        localCache.publish(snapshot);
+        localCache.putCategories(snapshot);
+        localCache.putCategory(category(3L, null, "아우터"));
+
+        // when
+        localCache.evictCategory(2L);
+
+        // then
+        assertThat(localCache.getCategory(1L).getName()).isEqualTo("상의");
+        assertThat(localCache.getCategory(2L)).isNull();
+        assertThat(localCache.getCategory(3L)).isNotNull();
+        assertThat(localCache.getSnapshot()).isSameAs(snapshot);
+
+        // when
+        localCache.clear();
+
+        // then
+        assertThat(localCache.getCategory(1L)).isNull();
+        assertThat(localCache.getCategory(3L)).isNull();
+        assertThat(localCache.getSnapshot()).isNull();
+        assertThat(localCache.getStaleSnapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    @DisplayName("갱신 시점(refresh-after)이 지나면 최신 조회에서 제외, 허용 지연(ttl) 이내면 이전 버전으로 응답")
+    void snapshot_RefreshAfterAndTtlBoundaries() {
+        // given - refresh-after 0: 게시 즉시 갱신 대상, ttl 5분: 이전 버전 응답 가능
+        CategoryLocalCache refreshing = localCache(Duration.ZERO, Duration.ofMinutes(5));
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(refreshing.nextVersion(), List.of(category(1L, null, "상의")));
+        refreshing.publish(snapshot);
+
+        // then
+        assertThat(refreshing.getSnapshot()).isNull();
+        assertThat(refreshing.isStale(snapshot)).isTrue();
+        assertThat(refreshing.getStaleSnapshot()).isSameAs(snapshot);
+
+        // given - ttl 0: 허용 지연도 지남
+        CategoryLocalCache expired = localCache(Duration.ZERO, Duration.ZERO);
+        expired.publish(snapshot);
+
+        // then
+        assertThat(expired.getStaleSnapshot()).isNull();
+        assertThat(expired.getLastKnownSnapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    @DisplayName("이전에 발급된 버전의 스냅샷은 무효화되고, 더 오래된 버전이 최신 버전을 덮어쓰지 않음")
+    void snapshot_InvalidationAndVersionOrder() {
+        // given
+        CategoryLocalCache localCache = localCache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        long olderVersion = localCache.nextVersion();
+        CategoryTreeSnapshot newer = CategoryTreeSnapshot.build(localCache.nextVersion(), List.of(category(1L, null, "상의")));
+        localCache.publish(newer);
+
+        // when
+        CategoryTreeSnapshot published = localCache.publish(CategoryTreeSnapshot.build(olderVersion, List.of()));
+
+        // then
+        assertThat(published).isSameAs(newer);
+        assertThat(localCache.getSnapshot()).isSameAs(newer);
+
+        // when
+        localCache.evictTree();
+
+        // then
+        assertThat(localCache.getSnapshot()).isNull();
+        assertThat(localCache.getStaleSnapshot()).isSameAs(newer);
+    }
+
+    @Test
+    @DisplayName("getCategory - L1 미스 시 Redis 에서 읽어 L1 에 저장, 이후 조회는 Redis 를 호출하지 않음")
+    @SuppressWarnings("unchecked")
+    void getCategory_FillsL1FromRedis() {
+        // given
+        CategoryLocalCache localCache = localCache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        RedisTemplate<String, byte[]> redis = mock(RedisTemplate.class);
+        ValueOperations<String, byte[]> valueOps = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(valueOps);
+        CategoryCacheService cacheService = cacheService(localCache, redis);
+        byte[] encoded = new CategoryCacheCodec(new RedisConfig().objectMapper(), properties)
+                .encodeNode(category(7L, null, "코트"));
+        when(valueOps.get(CategoryCacheGeneration.nodeKey(0L, 7L))).thenReturn(encoded);
+
+        // when
+        CategoryDto first = cacheService.getCategory(7L);
+        CategoryDto second = cacheService.getCategory(7L);
+
+        // then
+        assertThat(first.getName()).isEqualTo("코트");
+        assertThat(second.getName()).isEqualTo("코트");
+        assertThat(second).isNotSameAs(localCache.getCategory(7L));
+        verify(valueOps, times(1)).get(anyString());
+        assertThat(cacheService.getCategory(8L)).isNull();
+        assertThat(localCache.getCategory(8L)).isNull();
+    }
+
+    @Test
+    @DisplayName("수정은 L1 값을 교체하고 삭제는 L1 에서 제거")
+    @SuppressWarnings("unchecked")
+    void updateAndRemove_ReplaceOrEvictL1() {
+        // given
+        CategoryLocalCache localCache = localCache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        RedisTemplate<String, byte[]> redis = mock(RedisTemplate.class);
+        when(redis.opsForValue()).thenReturn(mock(ValueOperations.class));
+        CategoryCacheService cacheService = cacheService(localCache, redis);
+        localCache.putCategory(category(7L, null, "코트"));
+
+        // when
+        cacheService.updateCategory(category(7L, null, "롱 코트"), null);
+
+        // then
+        assertThat(localCache.getCategory(7L).getName()).isEqualTo("롱 코트");
+
+        // when
+        cacheService.removeCategory(category(7L, null, "롱 코트"));
+
+        // then
+        assertThat(localCache.getCategory(7L)).isNull();
+        verify(redis).delete(CategoryCacheGeneration.nodeKey(0L, 7L));
+    }
+}
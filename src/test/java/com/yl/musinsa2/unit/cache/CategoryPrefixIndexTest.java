@@ -0,0 +1,68 @@
+package com.yl.musinsa2.unit.cache;
+
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.dto.CategoryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CategoryPrefixIndex 단위테스트")
+class CategoryPrefixIndexTest {
+
+    private static CategoryDto category(long id, Long parentId, int displayOrder, String name, String code) {
+        return CategoryDto.builder()
+                .id(id)
+                .parentId(parentId)
+                .displayOrder(displayOrder)
+                .name(name)
+                .code(code)
+                .build();
+    }
+
+    private final CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, List.of(
+            category(1L, null, 2, "상의", "TOP"),
+            category(2L, 1L, 2, "반소매 티셔츠", "TOP_SHORT"),
+            category(3L, 1L, 1, "긴소매 티셔츠", "TOP_LONG"),
+            category(4L, 1L, 3, "셔츠/블라우스", "TOP_SHIRT"),
+            category(5L, null, 1, "Outer", "OUTER"),
+            category(6L, 3L, 1, "티셔츠 세트", "TEE_SET")
+    ));
+
+    @Test
+    @DisplayName("단어 시작 접두어 일치 - 깊이 -> displayOrder 순")
+    void search_RanksByDepthThenDisplayOrder() {
+        // when
+        int[] matches = snapshot.prefixIndex().search("티셔", 10);
+
+        // then
+        assertThat(matches).extracting(snapshot::id).containsExactly(3L, 2L, 6L);
+        assertThat(snapshot.prefixIndex().search("블라", 10)).extracting(snapshot::id).containsExactly(4L);
+        assertThat(snapshot.prefixIndex().search("셔츠", 10)).extracting(snapshot::id).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("초성과 입력 중인 음절로도 접두어 일치")
+    void search_ByChosungAndPartialSyllable() {
+        assertThat(snapshot.prefixIndex().search("ㅌㅅ", 10)).extracting(snapshot::id).containsExactly(3L, 2L, 6L);
+        assertThat(snapshot.prefixIndex().search("티ㅅ", 10)).extracting(snapshot::id).containsExactly(3L, 2L, 6L);
+        assertThat(snapshot.prefixIndex().search("사", 10)).extracting(snapshot::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("코드 접두어 일치 - 이름과 코드가 모두 일치해도 한 번만 반환")
+    void search_ByCodeWithoutDuplicates() {
+        assertThat(snapshot.prefixIndex().search("top", 10)).extracting(snapshot::id).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(snapshot.prefixIndex().search("OUT", 10)).extracting(snapshot::id).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("limit 개수만큼 상위 결과만 반환, 빈 검색어는 결과 없음")
+    void search_LimitsResults() {
+        assertThat(snapshot.prefixIndex().search("top", 2)).extracting(snapshot::id).containsExactly(1L, 3L);
+        assertThat(snapshot.prefixIndex().search(" ", 10)).isEmpty();
+        assertThat(snapshot.prefixIndex().search("없음", 10)).isEmpty();
+    }
+}
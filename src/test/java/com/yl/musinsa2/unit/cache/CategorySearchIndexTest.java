@@ -0,0 +1,159 @@
+package com.yl.musinsa2.unit.cache;
+
+import com.yl.musinsa2.cache.CategorySearchIndex;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.cache.HangulJamo;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.dto.CategoryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CategorySearchIndex 단위테스트")
+class CategorySearchIndexTest {
+
+    private static CategoryDto category(long id, Long parentId, int displayOrder, String name) {
+        return CategoryDto.builder()
+                .id(id)
+                .parentId(parentId)
+                .displayOrder(displayOrder)
+                .name(name)
+                .build();
+    }
+
+    private final CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, List.of(
+            category(1L, null, 1, "상의"),
+            category(2L, 1L, 1, "반소매 티셔츠"),
+            category(3L, 1L, 2, "긴소매 티셔츠"),
+            category(4L, 1L, 3, "셔츠/블라우스"),
+            category(5L, null, 2, "Outer"),
+            category(6L, 5L, 1, "후드 집업"),
+            CategoryDto.builder().id(7L).parentId(5L).displayOrder(2).name("Coat")
+                    .storeTitle("겨울 코트").groupTitle("아우터").build()
+    ));
+
+    @Test
+    @DisplayName("bigram 교집합 후 실제 포함 여부로 일치 노드 검색")
+    void search_ByBigrams() {
+        // when
+        int[] matches = snapshot.searchIndex().search("티셔츠");
+
+        // then
+        assertThat(matches).extracting(snapshot::id).containsExactly(2L, 3L);
+        assertThat(snapshot.searchIndex().search("셔츠")).hasSize(3);
+        assertThat(snapshot.searchIndex().search("소매티")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색과 대소문자 무시")
+    void search_SingleCharAndCaseInsensitive() {
+        assertThat(snapshot.searchIndex().search("집")).extracting(snapshot::id).containsExactly(6L);
+        assertThat(snapshot.searchIndex().search("OUT")).extracting(snapshot::id).containsExactly(5L);
+        assertThat(snapshot.searchIndex().search(" ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서브트리 범위 안에서만 검색")
+    void search_WithinRange() {
+        // given
+        int outer = snapshot.indexOf(5L);
+
+        // when
+        int[] matches = snapshot.searchIndex().search("후드", outer, snapshot.subtreeEnd(outer));
+        int[] none = snapshot.searchIndex().search("셔츠", outer, snapshot.subtreeEnd(outer));
+
+        // then
+        assertThat(matches).extracting(snapshot::id).containsExactly(6L);
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 결과 트리는 일치 노드와 조상만 포함")
+    void toMatchedResponseTree_IncludesMatchesAndAncestors() {
+        // when
+        List<CategoryResponse> result = snapshot.toMatchedResponseTree(
+                snapshot.searchIndex().search("티셔츠"), CategoryTreeSnapshot.NOT_FOUND);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getName()).isEqualTo("상의");
+        assertThat(result.get(0).isLeaf()).isFalse();
+        assertThat(result.get(0).getChildren()).extracting(CategoryResponse::getName)
+                .containsExactly("반소매 티셔츠", "긴소매 티셔츠");
+        assertThat(result.get(0).getChildren().get(0).isLeaf()).isTrue();
+        assertThat(CategorySearchIndex.normalize(" Outer ")).isEqualTo("outer");
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 초성 색인으로 검색")
+    void search_ByChosung() {
+        assertThat(snapshot.searchIndex().search("ㅌㅅㅊ")).extracting(snapshot::id).containsExactly(2L, 3L);
+        assertThat(snapshot.searchIndex().search("ㅎㄷ ㅈ")).extracting(snapshot::id).containsExactly(6L);
+        assertThat(snapshot.searchIndex().search("ㅋㅌ")).extracting(snapshot::id).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("입력 중인 마지막 음절은 자모 단위로 일치")
+    void search_ByPartialSyllable() {
+        assertThat(snapshot.searchIndex().search("티셔ㅊ")).extracting(snapshot::id).containsExactly(2L, 3L);
+        assertThat(snapshot.searchIndex().search("반소ㅁ")).extracting(snapshot::id).containsExactly(2L);
+        assertThat(snapshot.searchIndex().search("후ㄷ")).extracting(snapshot::id).containsExactly(6L);
+        assertThat(snapshot.searchIndex().search("긴소")).extracting(snapshot::id).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("마지막 음절을 제외한 음절은 음절 단위로 정확히 일치해야 함")
+    void search_RequiresExactSyllablesBeforeLast() {
+        // given
+        CategoryTreeSnapshot shoes = CategoryTreeSnapshot.build(1L, List.of(
+                category(1L, null, 1, "신발"),
+                category(2L, null, 2, "신바람 슬리퍼"),
+                category(3L, null, 3, "시나몬 니트"),
+                category(4L, null, 4, "신상품")
+        ));
+
+        // then - 앞 음절 "발" 이 "바" + "람" 의 초성으로 이어지는 일치는 제외
+        assertThat(shoes.searchIndex().search("신발")).extracting(shoes::id).containsExactly(1L);
+        assertThat(shoes.searchIndex().search("신바")).extracting(shoes::id).containsExactly(1L, 2L);
+        // 마지막 음절의 받침이 다음 음절 초성으로 넘어가는 일치는 제외
+        assertThat(shoes.searchIndex().search("신")).extracting(shoes::id).containsExactly(1L, 2L, 4L);
+        assertThat(shoes.searchIndex().search("시")).extracting(shoes::id).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(shoes.searchIndex().search("티셫")).isEmpty();
+        assertThat(CategorySearchIndex.matches("신발", "신바람 슬리퍼", null, null)).isFalse();
+        assertThat(CategorySearchIndex.matches("신", "시나몬 니트", null, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스토어명과 그룹명도 검색 대상이며 필드를 넘는 일치는 없음")
+    void search_ByStoreAndGroupTitle() {
+        assertThat(snapshot.searchIndex().search("코트")).extracting(snapshot::id).containsExactly(7L);
+        assertThat(snapshot.searchIndex().search("아우터")).extracting(snapshot::id).containsExactly(7L);
+        assertThat(snapshot.searchIndex().search("코트아우")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인 없는 단일 일치 확인은 색인 검색과 같은 규칙")
+    void matches_SameRulesAsIndex() {
+        assertThat(CategorySearchIndex.matches("ㅌㅅㅊ", "반소매 티셔츠", null, null)).isTrue();
+        assertThat(CategorySearchIndex.matches("티셔ㅊ", "반소매 티셔츠", null, null)).isTrue();
+        assertThat(CategorySearchIndex.matches("아우터", "Coat", "겨울 코트", "아우터")).isTrue();
+        assertThat(CategorySearchIndex.matches("후드", "반소매 티셔츠", null, null)).isFalse();
+        assertThat(CategorySearchIndex.matches(" ", "반소매 티셔츠", null, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("자모 분해 - 겹모음과 겹받침은 구성 자모로 분해")
+    void hangulJamo_Decompose() {
+        assertThat(HangulJamo.chosung("티셔츠")).isEqualTo("ㅌㅅㅊ");
+        assertThat(HangulJamo.decompose("셔츠")).isEqualTo("ㅅㅕㅊㅡ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("와")).isEqualTo(HangulJamo.decompose("ㅇㅘ"));
+        assertThat(HangulJamo.decomposeSyllables("신발", false)).isEqualTo("ㅅㅣㄴ\u0001ㅂㅏㄹ\u0001");
+        assertThat(HangulJamo.decomposeSyllables("신발", true)).isEqualTo("ㅅㅣㄴ\u0001ㅂㅏㄹ");
+        assertThat(HangulJamo.isChosungOnly("ㅌㅅ ㅊ")).isTrue();
+        assertThat(HangulJamo.isChosungOnly("ㅌ셔")).isFalse();
+    }
+}
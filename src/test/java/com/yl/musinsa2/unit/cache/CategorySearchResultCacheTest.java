@@ -0,0 +1,112 @@
+package com.yl.musinsa2.unit.cache;
+
+import com.yl.musinsa2.cache.CategorySearchResultCache;
+import com.yl.musinsa2.config.CategorySearchProperties;
+import com.yl.musinsa2.dto.CategoryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CategorySearchResultCache 단위테스트")
+class CategorySearchResultCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CategorySearchResultCache cache =
+            new CategorySearchResultCache(new CategorySearchProperties(), meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Supplier<List<CategoryResponse>> loader(String name) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(CategoryResponse.builder().id(1L).name(name).build());
+        };
+    }
+
+    @Test
+    @DisplayName("같은 버전/루트/정규화된 검색어는 한 번만 구성")
+    void get_ReusesResultForNormalizedQuery() {
+        // when
+        List<CategoryResponse> first = cache.get(1L, CategorySearchResultCache.ALL_ROOTS, "티셔츠", false, loader("티셔츠"));
+        List<CategoryResponse> second = cache.get(1L, CategorySearchResultCache.ALL_ROOTS, " 티셔츠 ", false, loader("티셔츠"));
+        cache.get(1L, 10L, "티셔츠", false, loader("티셔츠"));
+        cache.get(1L, CategorySearchResultCache.ALL_ROOTS, "티셔츠", true, loader("티셔츠"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(3);
+        assertThat(meterRegistry.get("category.search.result.hit.ratio").gauge().value()).isEqualTo(0.25);
+        assertThat(meterRegistry.get("category.search.result.weight.bytes").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("새 트리 버전이 들어오면 이전 버전 결과를 제거")
+    void get_NewVersionEvictsPreviousResults() {
+        // given
+        cache.get(1L, CategorySearchResultCache.ALL_ROOTS, "바지", false, loader("바지"));
+
+        // when
+        cache.get(2L, CategorySearchResultCache.ALL_ROOTS, "바지", false, loader("바지"));
+        cache.get(2L, CategorySearchResultCache.ALL_ROOTS, "바지", false, loader("바지"));
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("이전 버전 스냅샷의 결과는 저장하지 않음")
+    void get_OlderVersionIsNotCached() {
+        // given
+        cache.get(2L, CategorySearchResultCache.ALL_ROOTS, "신발", false, loader("신발"));
+
+        // when
+        cache.get(1L, CategorySearchResultCache.ALL_ROOTS, "신발", false, loader("신발"));
+        cache.get(1L, CategorySearchResultCache.ALL_ROOTS, "신발", false, loader("신발"));
+        cache.get(2L, CategorySearchResultCache.ALL_ROOTS, "신발", false, loader("신발"));
+
+        // then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("부분 결과는 저장하지 않고 다음 조회에서 다시 구성, 전체 결과가 나오면 저장")
+    void load_IncompleteResultIsRecomputed() {
+        // given
+        AtomicInteger fuzzyLoads = new AtomicInteger();
+        Supplier<CategorySearchResultCache.Loaded> loader = () -> new CategorySearchResultCache.Loaded(
+                List.of(CategoryResponse.builder().id(1L).name("스니커즈").build()),
+                fuzzyLoads.incrementAndGet() > 2);
+
+        // when
+        List<CategoryResponse> partial = cache.load(1L, CategorySearchResultCache.ALL_ROOTS, "스니커스", true, loader);
+        cache.load(1L, CategorySearchResultCache.ALL_ROOTS, "스니커스", true, loader);
+        List<CategoryResponse> complete = cache.load(1L, CategorySearchResultCache.ALL_ROOTS, "스니커스", true, loader);
+        List<CategoryResponse> cached = cache.load(1L, CategorySearchResultCache.ALL_ROOTS, "스니커스", true, loader);
+
+        // then
+        assertThat(partial).extracting(CategoryResponse::getName).containsExactly("스니커즈");
+        assertThat(fuzzyLoads).hasValue(3);
+        assertThat(cached).isSameAs(complete);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 항상 새로 구성")
+    void get_Disabled() {
+        // given
+        CategorySearchProperties properties = new CategorySearchProperties();
+        properties.getResultCache().setEnabled(false);
+        CategorySearchResultCache disabled = new CategorySearchResultCache(properties, new SimpleMeterRegistry());
+
+        // when
+        disabled.get(1L, CategorySearchResultCache.ALL_ROOTS, "신발", false, loader("신발"));
+        disabled.get(1L, CategorySearchResultCache.ALL_ROOTS, "신발", false, loader("신발"));
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -0,0 +1,336 @@
+package com.yl.musinsa2.unit.cache;
+
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.dto.CategoryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CategoryTreeSnapshot 단위테스트")
+class CategoryTreeSnapshotTest {
+
+    private static CategoryDto category(long id, Long parentId, int displayOrder, String name) {
+        return CategoryDto.builder()
+                .id(id)
+                .parentId(parentId)
+                .displayOrder(displayOrder)
+                .name(name)
+                .code("C" + id)
+                .build();
+    }
+
+    private final List<CategoryDto> categories = List.of(
+            category(1L, null, 2, "상의"),
+            category(2L, null, 1, "아우터"),
+            category(3L, 1L, 2, "셔츠"),
+            category(4L, 1L, 1, "티셔츠"),
+            category(5L, 4L, 1, "반소매 티셔츠"),
+            category(6L, 99L, 1, "고아 카테고리")
+    );
+
+    @Test
+    @DisplayName("형제는 displayOrder 순으로 정렬되고 깊이가 계산됨")
+    void build_SortsSiblingsAndComputesDepth() {
+        // when
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        // then
+        assertThat(snapshot.rootCount()).isEqualTo(2);
+        assertThat(snapshot.node(snapshot.root(0)).getName()).isEqualTo("아우터");
+        assertThat(snapshot.node(snapshot.root(1)).getName()).isEqualTo("상의");
+
+        int top = snapshot.indexOf(1L);
+        assertThat(snapshot.childCount(top)).isEqualTo(2);
+        assertThat(snapshot.id(snapshot.child(top, 0))).isEqualTo(4L);
+        assertThat(snapshot.id(snapshot.child(top, 1))).isEqualTo(3L);
+        assertThat(snapshot.depth(snapshot.indexOf(5L))).isEqualTo(2);
+        assertThat(snapshot.parentIndex(snapshot.indexOf(5L))).isEqualTo(snapshot.indexOf(4L));
+    }
+
+    @Test
+    @DisplayName("루트부터 노드까지의 경로가 미리 계산되고 이동/이름 변경에도 유지됨")
+    void toPathResponse_RootToNode() {
+        // given
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        // when
+        List<CategoryResponse> path = snapshot.toPathResponse(snapshot.indexOf(5L));
+        CategoryTreeSnapshot moved = snapshot.withUpsert(2L, category(4L, 2L, 1, "티셔츠"));
+        CategoryTreeSnapshot renamed = snapshot.withUpsert(3L, category(1L, null, 2, "탑"));
+
+        // then
+        assertThat(path).extracting(CategoryResponse::getId).containsExactly(1L, 4L, 5L);
+        assertThat(path).extracting(CategoryResponse::getChildren).containsOnlyNulls();
+        assertThat(path.get(2).isLeaf()).isTrue();
+        assertThat(snapshot.toPathResponse(snapshot.indexOf(2L))).extracting(CategoryResponse::getId)
+                .containsExactly(2L);
+        assertThat(moved.toPathResponse(moved.indexOf(5L))).extracting(CategoryResponse::getId)
+                .containsExactly(2L, 4L, 5L);
+        assertThat(renamed.toPathResponse(renamed.indexOf(5L))).extracting(CategoryResponse::getName)
+                .containsExactly("탑", "티셔츠", "반소매 티셔츠");
+    }
+
+    @Test
+    @DisplayName("하위 여부는 전위 순서 구간으로 판단하고, 하위 id 는 정렬되어 반환")
+    void descendants_IntervalLabelling() {
+        // given
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+        int top = snapshot.indexOf(1L);
+
+        // when
+        long[] all = snapshot.descendantIds(top, false);
+        long[] leaves = snapshot.descendantIds(top, true);
+        CategoryTreeSnapshot renamed = snapshot.withUpsert(2L, category(3L, 1L, 2, "긴팔 셔츠"));
+        CategoryTreeSnapshot moved = snapshot.withUpsert(3L, category(4L, 2L, 1, "티셔츠"));
+
+        // then
+        assertThat(all).containsExactly(3L, 4L, 5L);
+        assertThat(leaves).containsExactly(3L, 5L);
+        assertThat(snapshot.descendantIds(snapshot.indexOf(5L), false)).isEmpty();
+        assertThat(snapshot.isDescendant(snapshot.indexOf(5L), top)).isTrue();
+        assertThat(snapshot.isDescendant(top, top)).isFalse();
+        assertThat(snapshot.isDescendant(snapshot.indexOf(5L), snapshot.indexOf(3L))).isFalse();
+        assertThat(snapshot.isDescendant(snapshot.indexOf(2L), top)).isFalse();
+
+        assertThat(renamed.descendantIds(renamed.indexOf(1L), false)).containsExactly(3L, 4L, 5L);
+        assertThat(moved.descendantIds(moved.indexOf(1L), false)).containsExactly(3L);
+        assertThat(moved.descendantIds(moved.indexOf(2L), true)).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("id, code 색인 조회 및 부모가 없는 노드 제외")
+    void lookup_ByIdAndCode() {
+        // when
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(5);
+        assertThat(snapshot.indexOfCode("C5")).isEqualTo(snapshot.indexOf(5L));
+        assertThat(snapshot.indexOf(6L)).isEqualTo(CategoryTreeSnapshot.NOT_FOUND);
+        assertThat(snapshot.indexOf(1000L)).isEqualTo(CategoryTreeSnapshot.NOT_FOUND);
+        assertThat(snapshot.node(snapshot.indexOf(5L)).getParentName()).isEqualTo("티셔츠");
+    }
+
+    @Test
+    @DisplayName("id 분포가 넓어도 조회 가능")
+    void lookup_SparseIds() {
+        // given
+        List<CategoryDto> sparse = List.of(
+                category(1L, null, 1, "루트"),
+                category(5_000_000L, 1L, 1, "자식")
+        );
+
+        // when
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, sparse);
+
+        // then
+        assertThat(snapshot.indexOf(5_000_000L)).isEqualTo(1);
+        assertThat(snapshot.indexOf(4_999_999L)).isEqualTo(CategoryTreeSnapshot.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("서브트리 응답 변환 및 중첩 트리 왕복 변환")
+    void toResponseTree_AndRoundTrip() {
+        // given
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        // when
+        CategoryResponse response = snapshot.toResponseTree(snapshot.indexOf(1L));
+        CategoryTreeSnapshot restored = CategoryTreeSnapshot.fromTree(2L, snapshot.toDtoTree());
+
+        // then
+        assertThat(response.isLeaf()).isFalse();
+        assertThat(response.getChildren()).extracting(CategoryResponse::getName)
+                .containsExactly("티셔츠", "셔츠");
+        assertThat(response.getChildren().get(0).getChildren()).hasSize(1);
+        assertThat(response.getChildren().get(1).isLeaf()).isTrue();
+
+        assertThat(restored.size()).isEqualTo(snapshot.size());
+        assertThat(restored.getVersion()).isEqualTo(2L);
+        assertThat(restored.depth(restored.indexOf(5L))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서브트리 목록은 시작 카테고리를 루트로 구성")
+    void buildSubtree_TreatsStartAsRoot() {
+        // given
+        List<CategoryDto> subtree = List.of(
+                category(4L, 1L, 1, "티셔츠"),
+                category(5L, 4L, 1, "반소매 티셔츠")
+        );
+
+        // when
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.buildSubtree(1L, 4L, subtree);
+
+        // then
+        assertThat(snapshot.rootCount()).isEqualTo(1);
+        assertThat(snapshot.id(snapshot.root(0))).isEqualTo(4L);
+        assertThat(snapshot.node(snapshot.root(0)).getParentId()).isEqualTo(1L);
+        assertThat(snapshot.toResponseTree(snapshot.root(0)).getChildren()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("이름 변경은 구조를 공유하고 변경 노드와 자식의 부모 이름만 교체")
+    void withUpsert_RenameSharesStructure() {
+        // given
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        // when
+        CategoryTreeSnapshot patched = snapshot.withUpsert(2L, category(4L, 1L, 1, "티"));
+
+        // then
+        assertThat(patched.getVersion()).isEqualTo(2L);
+        assertThat(patched.getCreatedAt()).isEqualTo(snapshot.getCreatedAt());
+        assertThat(patched.node(patched.indexOf(4L)).getName()).isEqualTo("티");
+        assertThat(patched.node(patched.indexOf(4L)).getParentName()).isEqualTo("상의");
+        assertThat(patched.node(patched.indexOf(5L)).getParentName()).isEqualTo("티");
+        assertThat(patched.node(patched.indexOf(3L))).isSameAs(snapshot.node(snapshot.indexOf(3L)));
+        assertThat(snapshot.node(snapshot.indexOf(4L)).getName()).isEqualTo("티셔츠");
+    }
+
+    @Test
+    @DisplayName("색인 대상 필드가 그대로인 변경은 이전 스냅샷의 검색 색인을 공유")
+    void withUpsert_InheritsUnaffectedIndexes() {
+        // given
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+        snapshot.searchIndex();
+        snapshot.prefixIndex();
+        snapshot.fuzzyIndex();
+
+        // when
+        CategoryTreeSnapshot described = snapshot.withUpsert(2L,
+                category(4L, 1L, 1, "티셔츠").toBuilder().description("여름용").build());
+        CategoryTreeSnapshot recoded = snapshot.withUpsert(3L,
+                category(4L, 1L, 1, "티셔츠").toBuilder().code("TEE").build());
+        CategoryTreeSnapshot renamed = snapshot.withUpsert(4L, category(4L, 1L, 1, "티"));
+
+        // then
+        assertThat(described.searchIndex()).isSameAs(snapshot.searchIndex());
+        assertThat(described.prefixIndex()).isSameAs(snapshot.prefixIndex());
+        assertThat(described.fuzzyIndex()).isSameAs(snapshot.fuzzyIndex());
+        assertThat(recoded.searchIndex()).isSameAs(snapshot.searchIndex());
+        assertThat(recoded.prefixIndex()).isNotSameAs(snapshot.prefixIndex());
+        assertThat(recoded.prefixIndex().search("tee", 10)).extracting(recoded::id).containsExactly(4L);
+        assertThat(renamed.searchIndex()).isNotSameAs(snapshot.searchIndex());
+        assertThat(renamed.searchIndex().search("티셔츠")).extracting(renamed::id).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("내용 해시 - 버전과 무관하게 내용이 같으면 같고, 제자리 수정은 전체 재구성과 같은 값으로 갱신")
+    void contentHash_FollowsContentNotVersion() {
+        // given
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        // when
+        CategoryTreeSnapshot rebuilt = CategoryTreeSnapshot.build(2L, categories);
+        CategoryTreeSnapshot described = snapshot.withUpsert(3L,
+                category(4L, 1L, 1, "티셔츠").toBuilder().description("여름용").build());
+        CategoryTreeSnapshot unknownRemoved = snapshot.withRemoval(4L, 999L);
+        CategoryTreeSnapshot moved = snapshot.withUpsert(5L, category(4L, 2L, 1, "티셔츠"));
+
+        // then
+        assertThat(rebuilt.contentHash()).isEqualTo(snapshot.contentHash());
+        assertThat(unknownRemoved.contentHash()).isEqualTo(snapshot.contentHash());
+        assertThat(described.contentHash()).isNotEqualTo(snapshot.contentHash())
+                .isEqualTo(CategoryTreeSnapshot.fromTree(6L, described.toDtoTree()).contentHash());
+        assertThat(moved.contentHash()).isNotEqualTo(snapshot.contentHash());
+    }
+
+    @Test
+    @DisplayName("추가/순서 변경/이동은 새 위치에 반영되고 하위 트리가 함께 이동")
+    void withUpsert_InsertReorderAndMove() {
+        // given
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        // when
+        CategoryTreeSnapshot inserted = snapshot.withUpsert(2L, category(7L, 2L, 1, "코트"));
+        CategoryTreeSnapshot reordered = snapshot.withUpsert(3L, category(3L, 1L, 0, "셔츠"));
+        CategoryTreeSnapshot moved = snapshot.withUpsert(4L, category(4L, 2L, 1, "티셔츠"));
+
+        // then
+        assertThat(inserted.node(inserted.indexOf(7L)).getParentName()).isEqualTo("아우터");
+        assertThat(inserted.indexOfCode("C7")).isEqualTo(inserted.indexOf(7L));
+        assertThat(reordered.child(reordered.indexOf(1L), 0)).isEqualTo(reordered.indexOf(3L));
+
+        int outer = moved.indexOf(2L);
+        assertThat(moved.childCount(outer)).isEqualTo(1);
+        assertThat(moved.parentIndex(moved.indexOf(4L))).isEqualTo(outer);
+        assertThat(moved.depth(moved.indexOf(5L))).isEqualTo(2);
+        assertThat(moved.childCount(moved.indexOf(1L))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("부모가 없거나 자기 하위로 이동하면 반영하지 않음")
+    void withUpsert_RejectsUnknownParentOrCycle() {
+        // given
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        // when & then
+        assertThat(snapshot.withUpsert(2L, category(7L, 99L, 1, "없는 부모"))).isNull();
+        assertThat(snapshot.withUpsert(2L, category(4L, 5L, 1, "티셔츠"))).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제는 하위 트리와 함께 제거")
+    void withRemoval_RemovesSubtree() {
+        // given
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        // when
+        CategoryTreeSnapshot removed = snapshot.withRemoval(2L, 4L);
+        CategoryTreeSnapshot unchanged = snapshot.withRemoval(3L, 99L);
+
+        // then
+        assertThat(removed.size()).isEqualTo(snapshot.size() - 2);
+        assertThat(removed.contains(5L)).isFalse();
+        assertThat(removed.childCount(removed.indexOf(1L))).isEqualTo(1);
+        assertThat(unchanged.size()).isEqualTo(snapshot.size());
+        assertThat(unchanged.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("리프 삽입/하위 트리 제거는 배열 복사로 반영되고 전체 재구성과 같은 구조")
+    void withUpsertAndRemoval_SpliceMatchesRebuild() {
+        // given
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+        CategoryDto coat = category(7L, 1L, 0, "코트");
+
+        // when
+        CategoryTreeSnapshot inserted = snapshot.withUpsert(2L, coat);
+        CategoryTreeSnapshot removed = inserted.withRemoval(3L, 4L);
+        List<CategoryDto> remaining = new ArrayList<>(categories);
+        remaining.add(coat);
+        remaining.removeIf(c -> c.getId() == 4L || c.getId() == 5L);
+        CategoryTreeSnapshot rebuilt = CategoryTreeSnapshot.build(4L, remaining);
+
+        // then
+        assertThat(inserted.child(inserted.indexOf(1L), 0)).isEqualTo(inserted.indexOf(7L));
+        assertThat(inserted.subtreeEnd(inserted.indexOf(1L))).isEqualTo(inserted.indexOf(1L) + 5);
+        assertThat(inserted.contentHash()).isEqualTo(CategoryTreeSnapshot.fromTree(5L, inserted.toDtoTree()).contentHash());
+        for (int i = 0; i < rebuilt.size(); i++) {
+            assertThat(removed.id(i)).isEqualTo(rebuilt.id(i));
+            assertThat(removed.parentIndex(i)).isEqualTo(rebuilt.parentIndex(i));
+            assertThat(removed.subtreeEnd(i)).isEqualTo(rebuilt.subtreeEnd(i));
+            assertThat(removed.depth(i)).isEqualTo(rebuilt.depth(i));
+        }
+        assertThat(removed.size()).isEqualTo(rebuilt.size());
+        assertThat(removed.contentHash()).isEqualTo(rebuilt.contentHash());
+        assertThat(removed.indexOfCode("C7")).isEqualTo(removed.indexOf(7L));
+    }
+
+    @Test
+    @DisplayName("이동 여부 - 부모나 형제 순서가 바뀌는 변경만 이동")
+    void isMove_DetectsParentOrOrderChange() {
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        assertThat(snapshot.isMove(category(4L, 1L, 1, "반팔"))).isFalse();
+        assertThat(snapshot.isMove(category(7L, 1L, 1, "새 카테고리"))).isFalse();
+        assertThat(snapshot.isMove(category(4L, 2L, 1, "티셔츠"))).isTrue();
+        assertThat(snapshot.isMove(category(3L, 1L, 0, "셔츠"))).isTrue();
+    }
+}
@@ -0,0 +1,123 @@
+package com.yl.musinsa2.unit.cache;
+
+import com.yl.musinsa2.cache.RedisCircuitBreaker;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedisCircuitBreaker 단위테스트")
+class RedisCircuitBreakerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StringRedisTemplate redisTemplate;
+    private RedisCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        CategoryCacheProperties properties = new CategoryCacheProperties();
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumCalls(4);
+        properties.getCircuitBreaker().setFailureRateThreshold(50);
+        properties.getCircuitBreaker().setSlowCallDuration(Duration.ofMillis(50));
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMillis(20));
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        circuitBreaker = new RedisCircuitBreaker(redisTemplate, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        circuitBreaker.shutdownProber();
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+            throw new RedisConnectionFailureException("timeout");
+        })).isInstanceOf(RedisConnectionFailureException.class);
+    }
+
+    private double stateGauge(String state) {
+        return meterRegistry.get("category.redis.circuit.state").tag("state", state).gauge().value();
+    }
+
+    private void awaitState(RedisCircuitBreaker.State expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (circuitBreaker.getState() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("최근 호출의 실패 비율이 임계치 이상이면 열리고, 열린 동안은 Redis 를 호출하지 않음")
+    void execute_OpensOnFailureRate() {
+        // given
+        when(redisTemplate.execute(any(RedisCallback.class))).thenThrow(new RedisConnectionFailureException("down"));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        circuitBreaker.execute(calls::incrementAndGet);
+        circuitBreaker.execute(calls::incrementAndGet);
+        fail();
+        fail();
+
+        // then
+        assertThat(circuitBreaker.isClosed()).isFalse();
+        assertThat(stateGauge("closed")).isZero();
+        assertThatThrownBy(() -> circuitBreaker.execute(calls::incrementAndGet))
+                .isInstanceOf(RedisCircuitBreaker.CircuitOpenException.class);
+        assertThat(calls).hasValue(2);
+        assertThat(meterRegistry.get("category.redis.circuit.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 호출은 결과를 반환하지만 실패로 집계")
+    void execute_CountsSlowCallsAsFailures() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            String result = circuitBreaker.execute(() -> {
+                try {
+                    Thread.sleep(60);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "OK";
+            });
+            assertThat(result).isEqualTo("OK");
+        }
+
+        // then
+        assertThat(circuitBreaker.isClosed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("백그라운드 복구 확인(PING)이 성공하면 닫힘")
+    void probe_ClosesAfterRecovery() throws InterruptedException {
+        // given - 첫 복구 확인은 실패, 이후 성공
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn("PONG");
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+
+        // when & then
+        awaitState(RedisCircuitBreaker.State.CLOSED);
+        verify(redisTemplate, atLeast(2)).execute(any(RedisCallback.class));
+        assertThat(stateGauge("closed")).isEqualTo(1);
+        assertThat(circuitBreaker.execute(() -> "OK")).isEqualTo("OK");
+    }
+}
@@ -0,0 +1,84 @@
+package com.yl.musinsa2.unit.service;
+
+import com.yl.musinsa2.cache.CategoryCacheGeneration;
+import com.yl.musinsa2.cache.CategoryCacheMetrics;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.service.CategoryCacheInitializer;
+import com.yl.musinsa2.service.CategoryCacheService;
+import com.yl.musinsa2.service.CategoryTreeLoad;
+import com.yl.musinsa2.service.CategoryTreeLoad.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.info.Info;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CategoryCacheInitializer 단위테스트")
+class CategoryCacheInitializerTest {
+
+    private CategoryCacheService categoryCache;
+    private CategoryCacheInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        categoryCache = mock(CategoryCacheService.class);
+        initializer = new CategoryCacheInitializer(categoryCache, mock(CategoryCacheGeneration.class),
+                new CategoryCacheMetrics(new SimpleMeterRegistry()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object outcome() {
+        Info.Builder builder = new Info.Builder();
+        initializer.contribute(builder);
+        Map<String, Object> categoryCacheInfo = (Map<String, Object>) builder.build().getDetails().get("categoryCache");
+        return ((Map<String, Object>) categoryCacheInfo.get("warmUp")).get("outcome");
+    }
+
+    @Test
+    @DisplayName("Redis 트리가 있으면 reused")
+    void initializeCache_Reused() {
+        when(categoryCache.warmLocalFromRedis()).thenReturn(CategoryTreeSnapshot.build(1L,
+                List.of(CategoryDto.builder().id(1L).name("상의").displayOrder(1).build())));
+
+        initializer.initializeCache();
+
+        assertThat(outcome()).isEqualTo("reused");
+        verify(categoryCache, never()).rebuildTree();
+    }
+
+    @Test
+    @DisplayName("재구성 결과는 캐시 서비스가 반환한 outcome 그대로 - rebuilt / remote / empty / failed")
+    void initializeCache_RebuildOutcomes() {
+        CategoryTreeSnapshot tree = CategoryTreeSnapshot.build(1L,
+                List.of(CategoryDto.builder().id(1L).name("상의").displayOrder(1).build()));
+
+        // DB 로딩 성공
+        when(categoryCache.rebuildTree()).thenReturn(new CategoryTreeLoad(tree, Outcome.REBUILT));
+        initializer.initializeCache();
+        assertThat(outcome()).isEqualTo("rebuilt");
+
+        // 다른 인스턴스의 재구성 결과를 대기하여 적재 - 트리가 있어도 rebuilt 가 아님
+        when(categoryCache.rebuildTree()).thenReturn(new CategoryTreeLoad(tree, Outcome.REMOTE));
+        initializer.initializeCache();
+        assertThat(outcome()).isEqualTo("remote");
+
+        // DB 에 카테고리가 없음
+        when(categoryCache.rebuildTree()).thenReturn(
+                new CategoryTreeLoad(CategoryTreeSnapshot.build(2L, List.of()), Outcome.EMPTY));
+        initializer.initializeCache();
+        assertThat(outcome()).isEqualTo("empty");
+
+        // DB 로딩 실패 - 오류는 캐시 서비스에서 기록
+        when(categoryCache.rebuildTree()).thenReturn(
+                new CategoryTreeLoad(CategoryTreeSnapshot.empty(), Outcome.FAILED));
+        initializer.initializeCache();
+        assertThat(outcome()).isEqualTo("failed");
+    }
+}
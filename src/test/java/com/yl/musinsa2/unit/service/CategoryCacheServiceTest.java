@@ -0,0 +1,144 @@
+package com.yl.musinsa2.unit.service;
+
+import com.yl.musinsa2.cache.CategoryCacheCodec;
+import com.yl.musinsa2.cache.CategoryCacheGeneration;
+import com.yl.musinsa2.cache.CategoryCacheMetrics;
+import com.yl.musinsa2.cache.CategoryLocalCache;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.cache.RedisCircuitBreaker;
+import com.yl.musinsa2.cache.RedisLease;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import com.yl.musinsa2.config.RedisConfig;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.repository.CategoryRepository;
+import com.yl.musinsa2.service.CategoryCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CategoryCacheService 단위테스트")
+class CategoryCacheServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CategoryCacheProperties properties = new CategoryCacheProperties();
+    private CategoryRepository categoryRepository;
+    private RedisTemplate<String, byte[]> treeRedisTemplate;
+    private CategoryLocalCache localCache;
+    private RedisCircuitBreaker circuitBreaker;
+    private CategoryCacheService cacheService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findAllFlat()).thenReturn(List.of(
+                CategoryDto.builder().id(1L).name("상의").displayOrder(1).build()));
+
+        // 임대 획득 시 Redis 연결 실패
+        RedisLease redisLease = mock(RedisLease.class);
+        when(redisLease.tryAcquire(anyString(), any())).thenThrow(new RedisConnectionFailureException("timeout"));
+
+        RedisTemplate<String, byte[]> categoryRedisTemplate = mock(RedisTemplate.class);
+        when(categoryRedisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        treeRedisTemplate = mock(RedisTemplate.class);
+        localCache = new CategoryLocalCache(properties, meterRegistry);
+
+        circuitBreaker = new RedisCircuitBreaker(mock(StringRedisTemplate.class), properties, meterRegistry);
+        cacheService = new CategoryCacheService(categoryRedisTemplate, treeRedisTemplate, categoryRepository,
+                new CategoryCacheCodec(new RedisConfig().objectMapper(), properties), localCache,
+                new CategoryCacheMetrics(meterRegistry), redisLease, properties, mock(CategoryCacheGeneration.class),
+                circuitBreaker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        circuitBreaker.shutdownProber();
+        cacheService.shutdownRefreshExecutor();
+        localCache.shutdownIndexWarmer();
+    }
+
+    private static byte[] treeHash(CategoryTreeSnapshot snapshot) {
+        return Long.toHexString(snapshot.contentHash()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("임대 없는 단독 재구성은 간격당 한 번만 DB 로딩, 그 사이에는 마지막 트리로 응답")
+    void loadAndCacheFromDB_ThrottlesUnleasedRebuild() {
+        // given
+        properties.getRebuild().setUnleasedInterval(Duration.ofMinutes(2));
+
+        // when
+        CategoryTreeSnapshot first = cacheService.loadAndCacheFromDB();
+        CategoryTreeSnapshot second = cacheService.loadAndCacheFromDB();
+
+        // then
+        assertThat(first.size()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        verify(categoryRepository, times(1)).findAllFlat();
+        assertThat(meterRegistry.get("category.cache.rebuild").tag("outcome", "throttled").counter().count())
+                .isEqualTo(1.0);
+
+        // when - 간격이 지나면 다시 로딩
+        properties.getRebuild().setUnleasedInterval(Duration.ZERO);
+        cacheService.loadAndCacheFromDB();
+
+        // then
+        verify(categoryRepository, times(2)).findAllFlat();
+    }
+
+    @Test
+    @DisplayName("트리 부분 반영 - 반영을 시작한 스냅샷의 내용 해시를 기준으로 Redis 트리를 compare-and-set")
+    @SuppressWarnings("unchecked")
+    void updateCategory_PatchesRedisTreeWithCompareAndSet() {
+        // given
+        CategoryTreeSnapshot base = localCache.publish(CategoryTreeSnapshot.build(localCache.nextVersion(),
+                List.of(CategoryDto.builder().id(1L).name("상의").displayOrder(1).build())));
+        when(treeRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).thenReturn(1L);
+
+        // when
+        cacheService.updateCategory(CategoryDto.builder().id(2L).parentId(1L).name("티셔츠").displayOrder(1).build(), null);
+
+        // then
+        CategoryTreeSnapshot patched = localCache.getSnapshot();
+        assertThat(patched.contains(2L)).isTrue();
+        verify(treeRedisTemplate).execute(any(RedisScript.class),
+                eq(List.of(CategoryCacheGeneration.treeKey(0L), CategoryCacheGeneration.treeHashKey(0L))),
+                eq(treeHash(base)), eq(treeHash(patched)), any());
+        assertThat(meterRegistry.get("category.cache.tree.patch").tag("outcome", "patched").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("트리 부분 반영 - 다른 인스턴스의 변경이 먼저 기록되었으면 덮어쓰지 않음 (트리는 스크립트에서 제거)")
+    @SuppressWarnings("unchecked")
+    void updateCategory_RedisTreeConflictIsNotOverwritten() {
+        // given
+        localCache.publish(CategoryTreeSnapshot.build(localCache.nextVersion(),
+                List.of(CategoryDto.builder().id(1L).name("상의").displayOrder(1).build())));
+        when(treeRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).thenReturn(0L);
+
+        // when
+        cacheService.updateCategory(CategoryDto.builder().id(1L).name("상의 (여름)").displayOrder(1).build(), null);
+
+        // then - L1 은 반영, Redis 결과는 conflict 로 기록
+        assertThat(localCache.getSnapshot().node(0).getName()).isEqualTo("상의 (여름)");
+        assertThat(meterRegistry.get("category.cache.tree.patch").tag("outcome", "conflict").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.find("category.cache.tree.patch").tag("outcome", "patched").counter()).isNull();
+    }
+}
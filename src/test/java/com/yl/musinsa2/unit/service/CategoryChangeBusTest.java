@@ -0,0 +1,125 @@
+package com.yl.musinsa2.unit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yl.musinsa2.cache.CategoryCacheMetrics;
+import com.yl.musinsa2.cache.CategoryChangeEvent;
+import com.yl.musinsa2.cache.RedisCircuitBreaker;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import com.yl.musinsa2.config.RedisConfig;
+import com.yl.musinsa2.dto.CategoryDto;
+import com.yl.musinsa2.service.CategoryCacheService;
+import com.yl.musinsa2.service.CategoryChangeBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CategoryChangeBus 단위테스트")
+class CategoryChangeBusTest {
+
+    private static final String CHANNEL = "category:changes";
+
+    private final ObjectMapper objectMapper = new RedisConfig().objectMapper();
+    private final CategoryCacheProperties cacheProperties = new CategoryCacheProperties();
+    private final CategoryCacheMetrics cacheMetrics = new CategoryCacheMetrics(new SimpleMeterRegistry());
+
+    private StringRedisTemplate publisherRedis;
+    private CategoryCacheService subscriberCache;
+    private CategoryChangeBus publisher;
+    private CategoryChangeBus subscriber;
+
+    @BeforeEach
+    void setUp() {
+        publisherRedis = mock(StringRedisTemplate.class);
+        subscriberCache = mock(CategoryCacheService.class);
+        when(subscriberCache.applyRemoteChange(any())).thenReturn("patched");
+
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(mock(StringRedisTemplate.class), cacheProperties,
+                new SimpleMeterRegistry());
+
+        publisher = new CategoryChangeBus(publisherRedis, objectMapper, mock(CategoryCacheService.class),
+                circuitBreaker, cacheMetrics, cacheProperties);
+        subscriber = new CategoryChangeBus(mock(StringRedisTemplate.class), objectMapper, subscriberCache,
+                circuitBreaker, cacheMetrics, cacheProperties);
+    }
+
+    private List<Message> publish(CategoryChangeEvent... events) {
+        for (CategoryChangeEvent event : events) {
+            publisher.publish(event);
+        }
+        ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+        verify(publisherRedis, times(events.length)).convertAndSend(eq(CHANNEL), sent.capture());
+        return sent.getAllValues().stream()
+                .map(body -> (Message) new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                        ((String) body).getBytes(StandardCharsets.UTF_8)))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 변경은 쓰기에 사용한 세대와 함께 그대로 반영, 자신이 발행한 변경은 무시")
+    void onMessage_AppliesRemoteChange() {
+        // given
+        CategoryDto category = CategoryDto.builder()
+                .id(7L)
+                .parentId(1L)
+                .name("코트")
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .build();
+        List<Message> messages = publish(CategoryChangeEvent.upsert(category, null, 3L),
+                CategoryChangeEvent.remove(5L, 4L));
+
+        // when
+        messages.forEach(message -> subscriber.onMessage(message, null));
+        messages.forEach(message -> publisher.onMessage(message, null));
+
+        // then
+        verify(subscriberCache).applyRemoteChange(CategoryChangeEvent.upsert(category, null, 3L));
+        verify(subscriberCache).applyRemoteChange(CategoryChangeEvent.remove(5L, 4L));
+        verify(subscriberCache, never()).resyncLocal(anyString());
+    }
+
+    @Test
+    @DisplayName("순번이 건너뛰면 L1 재동기화, 이미 받은 순번은 무시")
+    void onMessage_ResyncsOnGapAndSkipsDuplicate() {
+        // given
+        List<Message> messages = publish(CategoryChangeEvent.remove(1L, 3L), CategoryChangeEvent.remove(2L, 3L),
+                CategoryChangeEvent.remove(3L, 3L));
+
+        // when - 2번 메시지 누락 후 1번 재전달
+        subscriber.onMessage(messages.get(0), null);
+        subscriber.onMessage(messages.get(2), null);
+        subscriber.onMessage(messages.get(0), null);
+
+        // then
+        verify(subscriberCache).applyRemoteChange(CategoryChangeEvent.remove(1L, 3L));
+        verify(subscriberCache).resyncLocal("gap");
+        verify(subscriberCache, times(1)).applyRemoteChange(any());
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 메시지는 L1 재동기화, 발행 실패는 쓰기 요청으로 전파하지 않음")
+    void onMessage_ResyncsOnUnreadableMessage() {
+        // given
+        when(publisherRedis.convertAndSend(anyString(), any())).thenThrow(new IllegalStateException("연결 실패"));
+
+        // when
+        subscriber.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "{broken".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        verify(subscriberCache).resyncLocal("unreadable");
+        assertThatCode(() -> publisher.publish(CategoryChangeEvent.resync())).doesNotThrowAnyException();
+    }
+}
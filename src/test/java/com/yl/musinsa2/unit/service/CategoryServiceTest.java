@@ -1,6 +1,14 @@
 package com.yl.musinsa2.unit.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yl.musinsa2.cache.CategoryChangeEvent;
+import com.yl.musinsa2.cache.CategorySearchResultCache;
+import com.yl.musinsa2.cache.CategoryTreeSnapshot;
+import com.yl.musinsa2.config.CategoryCacheProperties;
+import com.yl.musinsa2.config.CategorySearchProperties;
+import com.yl.musinsa2.dto.CategoryAutocompleteResponse;
 import com.yl.musinsa2.dto.CategoryCreateRequest;
+import com.yl.musinsa2.dto.CategoryDescendantsResponse;
 import com.yl.musinsa2.dto.CategoryDto;
 import com.yl.musinsa2.dto.CategoryResponse;
 import com.yl.musinsa2.dto.CategoryUpdateRequest;
@@ -10,6 +18,9 @@ import com.yl.musinsa2.repository.CategoryRepository;
 import com.yl.musinsa2.service.CategoryCacheInitializer;
 import com.yl.musinsa2.service.CategoryCacheService;
 import com.yl.musinsa2.service.CategoryService;
+import com.yl.musinsa2.service.CategoryTreeRenderer;
+import com.yl.musinsa2.service.ETagged;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,11 +28,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -40,6 +60,19 @@ class CategoryServiceTest {
     @Mock
     private CategoryCacheInitializer cacheInitializer;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private CategorySearchProperties searchProperties = new CategorySearchProperties();
+
+    @Spy
+    private CategorySearchResultCache searchResultCache =
+            new CategorySearchResultCache(new CategorySearchProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private CategoryTreeRenderer treeRenderer = new CategoryTreeRenderer(new ObjectMapper().findAndRegisterModules(), new CategoryCacheProperties());
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -69,12 +102,36 @@ class CategoryServiceTest {
                 .build();
     }
 
+    @Test
+    @DisplayName("카테고리 ID로 조회 - 트리 스냅샷에서 하위 포함 조회")
+    void getCategoryById_FromTreeSnapshot_Success() {
+        // given
+        CategoryDto childDto = CategoryDto.builder()
+                .id(2L)
+                .name("자식 카테고리")
+                .parentId(1L)
+                .displayOrder(1)
+                .build();
+        when(categoryCache.getTreeSnapshot())
+                .thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto, childDto)));
+
+        // when
+        CategoryResponse result = categoryService.getCategoryById(1L);
+
+        // then
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.isLeaf()).isFalse();
+        assertThat(result.getChildren()).hasSize(1);
+        assertThat(result.getChildren().get(0).getParentName()).isEqualTo("테스트 카테고리");
+        verify(categoryCache, never()).getCategory(any());
+        verify(categoryRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("카테고리 ID로 조회 - 캐시에서 조회 성공")
     void getCategoryById_FromCache_Success() {
         // given
         when(categoryCache.getCategory(1L)).thenReturn(testCategoryDto);
-        when(categoryCache.getChildCategories(1L)).thenReturn(new ArrayList<>());
 
         // when
         CategoryResponse result = categoryService.getCategoryById(1L);
@@ -90,8 +147,14 @@ class CategoryServiceTest {
     @DisplayName("카테고리 ID로 조회 - 캐시 미스 시 DB에서 조회")
     void getCategoryById_CacheMiss_FromDatabase() {
         // given
+        CategoryDto childDto = CategoryDto.builder()
+                .id(2L)
+                .name("자식 카테고리")
+                .parentId(1L)
+                .displayOrder(1)
+                .build();
         when(categoryCache.getCategory(1L)).thenReturn(null);
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(testCategory));
+        when(categoryRepository.findSubtreeFlat(1L)).thenReturn(List.of(testCategoryDto, childDto));
 
         // when
         CategoryResponse result = categoryService.getCategoryById(1L);
@@ -99,8 +162,11 @@ class CategoryServiceTest {
         // then
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("테스트 카테고리");
+        assertThat(result.getChildren()).extracting(CategoryResponse::getId).containsExactly(2L);
         verify(categoryCache).getCategory(1L);
-        verify(categoryRepository).findById(1L);
+        verify(categoryCache).addCategory(any(CategoryDto.class));
+        verify(categoryRepository).findSubtreeFlat(1L);
+        verify(categoryRepository, never()).findById(any());
     }
 
     @Test
@@ -108,7 +174,7 @@ class CategoryServiceTest {
     void getCategoryById_NotFound_ThrowsException() {
         // given
         when(categoryCache.getCategory(999L)).thenReturn(null);
-        when(categoryRepository.findById(999L)).thenReturn(Optional.empty());
+        when(categoryRepository.findSubtreeFlat(999L)).thenReturn(List.of());
 
         // when & then
         assertThatThrownBy(() -> categoryService.getCategoryById(999L))
@@ -116,6 +182,308 @@ class CategoryServiceTest {
                 .hasMessage("카테고리를 찾을 수 없습니다. ID: 999");
     }
 
+    @Test
+    @DisplayName("카테고리 경로 조회 - 트리 스냅샷의 루트부터 카테고리까지, DB 조회 없음")
+    void getCategoryPath_FromTreeSnapshot() {
+        // given
+        CategoryDto childDto = CategoryDto.builder()
+                .id(2L)
+                .name("자식 카테고리")
+                .parentId(1L)
+                .displayOrder(1)
+                .build();
+        when(categoryCache.getTreeSnapshot())
+                .thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto, childDto)));
+
+        // when
+        List<CategoryResponse> path = categoryService.getCategoryPath(2L);
+        ETagged<List<CategoryResponse>> tagged = categoryService.getCategoryPathWithETag(2L);
+
+        // then
+        assertThat(path).extracting(CategoryResponse::getName).containsExactly("테스트 카테고리", "자식 카테고리");
+        assertThat(tagged.eTag()).isNotNull()
+                .isNotEqualTo(categoryService.getCategoryPathWithETag(1L).eTag());
+        assertThatThrownBy(() -> categoryService.getCategoryPath(999L))
+                .isInstanceOf(EntityNotFoundException.class);
+        verify(categoryRepository, never()).findAncestorsFlat(2L);
+        verify(categoryRepository).findAncestorsFlat(999L);
+    }
+
+    @Test
+    @DisplayName("카테고리 경로 조회 - 트리에 아직 없는 카테고리는 DB 에서 tree_path 로 1회 조회")
+    void getCategoryPath_NotInTree_FromDatabase() {
+        // given
+        CategoryDto childDto = CategoryDto.builder()
+                .id(2L)
+                .name("자식 카테고리")
+                .parentId(1L)
+                .parentName("테스트 카테고리")
+                .build();
+        when(categoryCache.getTreeSnapshot())
+                .thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto)));
+        when(categoryRepository.findAncestorsFlat(2L)).thenReturn(List.of(testCategoryDto, childDto));
+
+        // when
+        ETagged<List<CategoryResponse>> tagged = categoryService.getCategoryPathWithETag(2L);
+
+        // then
+        assertThat(tagged.eTag()).isNull();
+        assertThat(tagged.body().get()).extracting(CategoryResponse::getId).containsExactly(1L, 2L);
+        assertThat(tagged.body().get()).extracting(CategoryResponse::isLeaf).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("여러 카테고리 조회 - 트리 스냅샷 -> 개별 캐시 -> DB 1회 조회, 요청 순서 유지")
+    void getCategoriesByIds_ResolvesByTierInRequestOrder() {
+        // given - 1: 트리, 2: 개별 캐시, 3: DB, 4: 없음
+        CategoryDto cachedDto = CategoryDto.builder()
+                .id(2L)
+                .name("캐시 카테고리")
+                .parentId(1L)
+                .build();
+        CategoryDto loadedDto = CategoryDto.builder()
+                .id(3L)
+                .name("DB 카테고리")
+                .parentId(1L)
+                .parentName("테스트 카테고리")
+                .build();
+        when(categoryCache.getTreeSnapshot()).thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto)));
+        when(categoryCache.getCategories(List.of(3L, 2L, 4L))).thenReturn(Map.of(2L, cachedDto));
+        when(categoryRepository.findAllFlatByIds(List.of(3L, 4L))).thenReturn(List.of(loadedDto));
+
+        // when
+        List<CategoryResponse> result = categoryService.getCategoriesByIds(List.of(3L, 1L, 2L, 3L, 4L));
+
+        // then
+        assertThat(result).extracting(CategoryResponse::getId).containsExactly(3L, 1L, 2L);
+        assertThat(result.get(0).getParentName()).isEqualTo("테스트 카테고리");
+        assertThat(result).allSatisfy(response -> assertThat(response.getChildren()).isNullOrEmpty());
+        verify(categoryCache).addCategories(List.of(loadedDto));
+        verify(categoryCache, never()).getCategory(any());
+    }
+
+    @Test
+    @DisplayName("여러 카테고리 조회 - 최대 개수 초과")
+    void getCategoriesByIds_TooMany_ThrowsException() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, CategoryService.MAX_BATCH_SIZE + 1).boxed().toList();
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.getCategoriesByIds(ids))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(categoryCache, categoryRepository);
+    }
+
+    @Test
+    @DisplayName("카테고리 검색 - 색인으로 일치 노드와 조상만 반환")
+    void searchCategoriesTree_UsesSearchIndex() {
+        // given
+        CategoryDto childDto = CategoryDto.builder()
+                .id(2L)
+                .name("반소매 티셔츠")
+                .parentId(1L)
+                .displayOrder(1)
+                .build();
+        CategoryDto otherDto = CategoryDto.builder()
+                .id(3L)
+                .name("니트")
+                .parentId(1L)
+                .displayOrder(2)
+                .build();
+        when(categoryCache.getTreeSnapshot())
+                .thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto, childDto, otherDto)));
+
+        // when
+        List<CategoryResponse> result = categoryService.searchCategoriesTree("티셔츠");
+        CategoryResponse subTree = categoryService.searchCategorySubTree(1L, "니트");
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getChildren()).extracting(CategoryResponse::getId).containsExactly(2L);
+        assertThat(subTree.getChildren()).extracting(CategoryResponse::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("카테고리 검색 - fuzzy 이면 오타가 있는 검색어도 일치")
+    void searchCategoriesTree_Fuzzy_ToleratesTypos() {
+        // given
+        CategoryDto childDto = CategoryDto.builder()
+                .id(2L)
+                .name("스니커즈")
+                .parentId(1L)
+                .displayOrder(1)
+                .build();
+        when(categoryCache.getTreeSnapshot())
+                .thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto, childDto)));
+
+        // when
+        List<CategoryResponse> exact = categoryService.searchCategoriesTree("스니커스");
+        List<CategoryResponse> fuzzy = categoryService.searchCategoriesTree("스니커스", true);
+
+        // then
+        assertThat(exact).isEmpty();
+        assertThat(fuzzy).hasSize(1);
+        assertThat(fuzzy.get(0).getId()).isEqualTo(1L);
+        assertThat(fuzzy.get(0).getChildren()).extracting(CategoryResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("트리 JSON - 같은 버전은 한 번만 직렬화/압축하고 내용이 같으면 ETag 유지")
+    void getCategoryTreeJson_RendersOncePerVersion() throws IOException {
+        // given
+        List<CategoryDto> categories = new ArrayList<>(List.of(testCategoryDto));
+        for (long id = 2; id <= 20; id++) {
+            categories.add(CategoryDto.builder()
+                    .id(id)
+                    .name("자식 카테고리 " + id)
+                    .parentId(1L)
+                    .displayOrder((int) id)
+                    .build());
+        }
+        CategoryTreeSnapshot version1 = CategoryTreeSnapshot.build(1L, categories);
+        CategoryTreeSnapshot version2 = CategoryTreeSnapshot.build(2L, categories);
+        when(categoryCache.getTreeSnapshot()).thenReturn(version1, version1, version2);
+
+        // when
+        CategoryTreeRenderer.RenderedJson first = categoryService.getCategoryTreeJson();
+        CategoryTreeRenderer.RenderedJson second = categoryService.getCategoryTreeJson();
+        CategoryTreeRenderer.RenderedJson third = categoryService.getCategoryTreeJson();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third.json()).isNotSameAs(first.json());
+        assertThat(third.eTag()).isEqualTo(first.eTag()).startsWith("\"");
+        assertThat(new String(first.json())).contains("자식 카테고리 20");
+
+        // 압축 본문은 원본보다 작고, 풀면 원본과 같으며 ETag 가 다름
+        assertThat(first.gzip()).isNotNull();
+        assertThat(first.gzip().length).isLessThan(first.json().length);
+        assertThat(third.gzipETag()).isEqualTo(first.gzipETag()).isNotEqualTo(first.eTag());
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertThat(gunzip.readAllBytes()).isEqualTo(first.json());
+        }
+    }
+
+    @Test
+    @DisplayName("카테고리 JSON - 스냅샷에 있으면 버전별로 한 번만 렌더링, 없으면 ETag 없이 렌더링")
+    void getCategoryJson_RendersSubtreeOncePerVersion() {
+        // given
+        CategoryDto childDto = CategoryDto.builder()
+                .id(2L)
+                .name("자식 카테고리")
+                .parentId(1L)
+                .displayOrder(1)
+                .build();
+        when(categoryCache.getTreeSnapshot()).thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto, childDto)));
+        when(categoryCache.getCategory(999L)).thenReturn(childDto);
+
+        // when
+        CategoryTreeRenderer.RenderedJson first = categoryService.getCategoryJson(1L);
+        CategoryTreeRenderer.RenderedJson second = categoryService.getCategoryJson(1L);
+        CategoryTreeRenderer.RenderedJson child = categoryService.getCategoryJson(2L);
+        CategoryTreeRenderer.RenderedJson outside = categoryService.getCategoryJson(999L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json())).contains("테스트 카테고리", "자식 카테고리");
+        assertThat(child.eTag()).isNotEqualTo(first.eTag());
+        assertThat(outside.eTag()).isNull();
+        assertThat(outside.gzip()).isNull();
+    }
+
+    @Test
+    @DisplayName("검색 ETag - 검색 조건별로 다르고 결과를 만들지 않고 발급")
+    void searchCategoriesTreeWithETag_DerivesFromContentHash() {
+        // given
+        when(categoryCache.getTreeSnapshot()).thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto)));
+
+        // when
+        ETagged<List<CategoryResponse>> search = categoryService.searchCategoriesTreeWithETag("테스트", false);
+        ETagged<List<CategoryResponse>> same = categoryService.searchCategoriesTreeWithETag(" 테스트 ", false);
+        ETagged<List<CategoryResponse>> fuzzy = categoryService.searchCategoriesTreeWithETag("테스트", true);
+        ETagged<CategoryResponse> subTree = categoryService.searchCategorySubTreeWithETag(1L, "테스트");
+
+        // then
+        assertThat(same.eTag()).isEqualTo(search.eTag());
+        assertThat(fuzzy.eTag()).isNotEqualTo(search.eTag());
+        assertThat(subTree.eTag()).isNotEqualTo(search.eTag());
+        assertThat(search.body().get()).extracting(CategoryResponse::getId).containsExactly(1L);
+
+        // 내용이 같은 다른 버전은 같은 ETag, 내용이 바뀌면 다른 ETag (트리 렌더링 없이 내용 해시에서 파생)
+        when(categoryCache.getTreeSnapshot()).thenReturn(CategoryTreeSnapshot.build(2L, List.of(testCategoryDto)));
+        assertThat(categoryService.searchCategoriesTreeWithETag("테스트", false).eTag()).isEqualTo(search.eTag());
+        when(categoryCache.getTreeSnapshot()).thenReturn(CategoryTreeSnapshot.build(3L,
+                List.of(testCategoryDto.toBuilder().description("변경된 설명").build())));
+        assertThat(categoryService.searchCategoriesTreeWithETag("테스트", false).eTag()).isNotEqualTo(search.eTag());
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 ETag - 조회 조건별로 다르고, 버전이 달라도 트리 내용이 같으면 유지")
+    void getDescendantIdsWithETag_DerivesFromContentHash() {
+        // given
+        CategoryDto childDto = CategoryDto.builder()
+                .id(2L)
+                .name("자식 카테고리")
+                .parentId(1L)
+                .displayOrder(1)
+                .build();
+        when(categoryCache.getTreeSnapshot())
+                .thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto, childDto)));
+
+        // when
+        ETagged<CategoryDescendantsResponse> all = categoryService.getDescendantIdsWithETag(1L, false, false);
+        ETagged<CategoryDescendantsResponse> leafOnly = categoryService.getDescendantIdsWithETag(1L, true, false);
+        when(categoryCache.getTreeSnapshot())
+                .thenReturn(CategoryTreeSnapshot.build(2L, List.of(testCategoryDto, childDto)));
+        ETagged<CategoryDescendantsResponse> rebuilt = categoryService.getDescendantIdsWithETag(1L, false, false);
+
+        // then
+        assertThat(all.eTag()).isNotNull().isNotEqualTo(leafOnly.eTag());
+        assertThat(rebuilt.eTag()).isEqualTo(all.eTag());
+        assertThat(all.body().get().getIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("카테고리 자동완성 - 접두어 일치 결과에 상위 경로 포함")
+    void autocomplete_ReturnsMatchesWithAncestorPath() {
+        // given
+        CategoryDto childDto = CategoryDto.builder()
+                .id(2L)
+                .name("티셔츠")
+                .parentId(1L)
+                .displayOrder(1)
+                .build();
+        CategoryDto grandChildDto = CategoryDto.builder()
+                .id(3L)
+                .name("반소매 티셔츠")
+                .parentId(2L)
+                .displayOrder(1)
+                .build();
+        when(categoryCache.getTreeSnapshot())
+                .thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto, childDto, grandChildDto)));
+
+        // when
+        List<CategoryAutocompleteResponse> result = categoryService.autocomplete("티셔", 10);
+
+        // then
+        assertThat(result).extracting(CategoryAutocompleteResponse::getId).containsExactly(2L, 3L);
+        assertThat(result.get(1).getDepth()).isEqualTo(2);
+        assertThat(result.get(1).getPath()).containsExactly("테스트 카테고리", "티셔츠");
+        assertThat(result.get(1).getPathIds()).containsExactly(1L, 2L);
+        assertThat(result.get(0).getPath()).containsExactly("테스트 카테고리");
+    }
+
+    @Test
+    @DisplayName("카테고리 자동완성 - 빈 검색어는 캐시 조회 없이 빈 결과")
+    void autocomplete_BlankQuery_ReturnsEmpty() {
+        // when
+        List<CategoryAutocompleteResponse> result = categoryService.autocomplete(" ", 10);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(categoryCache, never()).getTreeSnapshot();
+    }
+
     @Test
     @DisplayName("카테고리 생성 - 부모 카테고리 없는 루트 카테고리")
     void createCategory_RootCategory_Success() {
@@ -203,6 +571,30 @@ class CategoryServiceTest {
                 .hasMessage("부모 카테고리를 찾을 수 없습니다. ID: 999");
     }
 
+    @Test
+    @DisplayName("카테고리 생성 - 경로가 컬럼 길이를 넘을 부모는 저장 전에 거부")
+    void createCategory_TreeTooDeep_ThrowsException() {
+        // given - 부모 경로가 길이 한도 가까이라 새 id 를 붙이면 넘칠 수 있음
+        Category parentCategory = Category.builder()
+                .id(1L)
+                .name("깊은 카테고리")
+                .treePath("/1/" + "2/".repeat(120))
+                .build();
+
+        CategoryCreateRequest request = CategoryCreateRequest.builder()
+                .name("자식 카테고리")
+                .parentId(1L)
+                .build();
+
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.createCategory(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("너무 깊어");
+        verify(categoryRepository, never()).save(any(Category.class));
+    }
+
     @Test
     @DisplayName("카테고리 수정 - 성공")
     void updateCategory_Success() {
@@ -220,6 +612,7 @@ class CategoryServiceTest {
 
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(testCategory));
         when(categoryRepository.save(any(Category.class))).thenReturn(updatedCategory);
+        when(categoryCache.updateCategory(any(CategoryDto.class), isNull())).thenReturn(5L);
 
         // when
         CategoryResponse result = categoryService.updateCategory(1L, request);
@@ -229,6 +622,36 @@ class CategoryServiceTest {
         assertThat(result.getName()).isEqualTo("수정된 카테고리");
         assertThat(result.getDescription()).isEqualTo("수정된 설명");
         verify(categoryCache).updateCategory(any(CategoryDto.class), isNull());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof CategoryChangeEvent change
+                && change.type() == CategoryChangeEvent.Type.UPSERT && change.ids().equals(List.of(1L))
+                && change.generation() == 5L));
+    }
+
+    @Test
+    @DisplayName("카테고리 수정 - 트랜잭션 안에서는 커밋 후에 캐시 반영 및 변경 전파")
+    void updateCategory_AppliesCacheAfterCommit() {
+        // given
+        CategoryUpdateRequest request = CategoryUpdateRequest.builder()
+                .name("수정된 카테고리")
+                .build();
+
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(testCategory));
+        when(categoryRepository.save(any(Category.class))).thenReturn(testCategory);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            categoryService.updateCategory(1L, request);
+
+            // then - 커밋 전에는 반영하지 않음 (롤백 시 캐시에 남지 않도록)
+            verifyNoInteractions(categoryCache, eventPublisher);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(categoryCache).updateCategory(any(CategoryDto.class), isNull());
+            verify(eventPublisher).publishEvent(any(CategoryChangeEvent.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -243,6 +666,7 @@ class CategoryServiceTest {
         // then
         verify(categoryRepository).delete(testCategory);
         verify(categoryCache).removeCategory(any(CategoryDto.class));
+        verify(eventPublisher).publishEvent(CategoryChangeEvent.remove(1L, 0L));
     }
 
     @Test
@@ -274,14 +698,15 @@ class CategoryServiceTest {
 
         // then
         verify(cacheInitializer).reinitializeCache();
+        verify(eventPublisher).publishEvent(CategoryChangeEvent.resync());
     }
 
     @Test
     @DisplayName("카테고리 트리 조회 - 캐시에서 조회")
     void getCategoryTree_FromCache() {
         // given
-        List<CategoryDto> rootCategories = List.of(testCategoryDto);
-        when(categoryCache.getCategoryTree()).thenReturn(rootCategories);
+        when(categoryCache.getTreeSnapshot())
+                .thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto)));
 
         // when
         List<CategoryResponse> result = categoryService.getCategoryTree();
@@ -289,15 +714,17 @@ class CategoryServiceTest {
         // then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("테스트 카테고리");
-        verify(categoryCache).getCategoryTree();
+        verify(categoryCache).getTreeSnapshot();
+        verify(categoryCache, never()).loadAndCacheFromDB();
     }
 
     @Test
     @DisplayName("카테고리 트리 조회 - 캐시 미스 시 DB에서 조회")
     void getCategoryTree_CacheMiss_FromDatabase() {
         // given
-        when(categoryCache.getCategoryTree()).thenReturn(new ArrayList<>());
-        when(categoryCache.loadAndCacheFromDB()).thenReturn(List.of(testCategoryDto));
+        when(categoryCache.getTreeSnapshot()).thenReturn(null);
+        when(categoryCache.loadAndCacheFromDB())
+                .thenReturn(CategoryTreeSnapshot.build(1L, List.of(testCategoryDto)));
 
         // when
         List<CategoryResponse> result = categoryService.getCategoryTree();